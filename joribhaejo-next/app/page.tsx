@@ -21,7 +21,7 @@ import { SignupForm } from "@/components/signup-form";
 import { MessageModal } from "@/components/message-modal";
 import { useCurrentUser, useLikedPostIds } from "@/hooks/use-auth";
 import { toast } from "@/hooks/use-toast";
-import { useInboxMessages, useSentMessages, useSendMessage, useDeleteMessage } from "@/hooks/use-messages";
+import { useInboxMessages, useSentMessages, useSendMessage, useDeleteMessage, useMessageStream } from "@/hooks/use-messages";
 
 export default function Home() {
   const queryClient = useQueryClient();
@@ -37,6 +37,7 @@ export default function Home() {
 
   const { data: receivedMessages, isLoading: loadingReceived, error: errorReceived } = useInboxMessages({ enabled: showMessage });
   const { data: sentMessages, isLoading: loadingSent, error: errorSent } = useSentMessages({ enabled: showMessage });
+  useMessageStream();
   const sendMessageMutation = useSendMessage();
   const deleteMessageMutation = useDeleteMessage();
 
@@ -31,6 +31,7 @@ export function LoginForm({ onLoginSuccess }: LoginFormProps) {
       const data = await authApi.login({ email, password })
       console.log("Attempting to set accessToken:", data.accessToken); // 이 줄 추가
       localStorage.setItem("accessToken", data.accessToken)
+      localStorage.setItem("refreshToken", data.refreshToken)
 
       // 현재 사용자 정보 가져오기
       const currentUser = await userApi.getCurrentUser()
@@ -210,7 +210,7 @@ export function PostList({
                     {post.title}
                   </h2>
                   <p className="text-gray-300 dark:text-gray-300 text-sm leading-relaxed">
-                    {post.content}
+                    {post.excerpt}
                   </p>
 
                   {/* Engagement */}
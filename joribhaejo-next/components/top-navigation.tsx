@@ -97,6 +97,7 @@ export function TopNavigation({
 
   const handleLogout = () => {
     localStorage.removeItem("accessToken");
+    localStorage.removeItem("refreshToken");
     localStorage.removeItem("currentUser");
     queryClient.invalidateQueries({ queryKey: ['currentUser'] });
     queryClient.removeQueries({ queryKey: ['currentUser'] });
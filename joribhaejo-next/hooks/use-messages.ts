@@ -1,3 +1,4 @@
+import { useEffect } from 'react';
 import { useQuery, useMutation, useQueryClient, UseQueryOptions } from '@tanstack/react-query';
 import { messageApi, ApiError } from '@/lib/api';
 import { Message } from '@/lib/types';
@@ -14,6 +15,68 @@ export const useInboxMessages = (options?: UseQueryOptions<Message[], Error>) =>
   });
 };
 
+// 새 쪽지를 SSE로 받아 받은 쪽지함 캐시에 바로 추가 (재연결 시 마지막으로 받은 쪽지 id를 보내 놓친 쪽지도 이어받음)
+export const useMessageStream = (enabled: boolean = true) => {
+  const queryClient = useQueryClient();
+
+  useEffect(() => {
+    if (!enabled) return;
+    let source: EventSource | null = null;
+    let retryTimer: ReturnType<typeof setTimeout> | undefined;
+    let lastEventId: string | null = null;
+    let attempt = 0;
+    let stopped = false;
+
+    const scheduleReconnect = () => {
+      if (stopped) return;
+      retryTimer = setTimeout(connect, Math.min(30000, 1000 * 2 ** attempt++));
+    };
+
+    const connect = async () => {
+      let url: string | null;
+      try {
+        // 연결할 때마다 현재 access 토큰으로 새 티켓을 받음 (만료됐으면 재발급 후 발급)
+        url = await messageApi.getStreamUrl(lastEventId);
+      } catch (error) {
+        // 재발급까지 실패해 로그아웃된 경우는 더 시도하지 않음
+        if (!(error instanceof ApiError && error.status === 401)) scheduleReconnect();
+        return;
+      }
+      if (!url || stopped) return;
+
+      source = new EventSource(url);
+      source.onopen = () => {
+        attempt = 0;
+      };
+      source.addEventListener('message', (event) => {
+        const messageEvent = event as MessageEvent;
+        lastEventId = messageEvent.lastEventId || lastEventId;
+        const message: Message = JSON.parse(messageEvent.data);
+        queryClient.setQueryData<Message[]>(['inboxMessages'], (prev) =>
+          prev && !prev.some((m) => m.id === message.id) ? [message, ...prev] : prev
+        );
+      });
+      // 재전송 한도를 넘은 경우 목록을 다시 불러옴
+      source.addEventListener('resync', () => {
+        queryClient.invalidateQueries({ queryKey: ['inboxMessages'] });
+      });
+      // 티켓은 일회용이라 브라우저 자동 재연결은 거부됨, 직접 닫고 새 티켓으로 다시 연결
+      source.onerror = () => {
+        source?.close();
+        source = null;
+        scheduleReconnect();
+      };
+    };
+
+    connect();
+    return () => {
+      stopped = true;
+      clearTimeout(retryTimer);
+      source?.close();
+    };
+  }, [enabled, queryClient]);
+};
+
 export const useSentMessages = (options?: UseQueryOptions<Message[], Error>) => {
   return useQuery<Message[], Error>({
     queryKey: ['sentMessages'],
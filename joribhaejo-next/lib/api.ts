@@ -1,4 +1,4 @@
-import { Post, Message, Comment, User, ApiResponse, PaginatedResponse, PostFilters, Board, PostCreateRequest } from './types'
+import { Post, Message, Comment, User, ApiResponse, PaginatedResponse, CursorResponse, PostFilters, Board, PostCreateRequest, LikeState, Activity } from './types'
 
 // API 기본 설정
 const API_BASE_URL = 'http://jorib.mobidic.shop/api'
@@ -10,11 +10,52 @@ export class ApiError extends Error {
   }
 }
 
+// 동시에 여러 요청이 401을 받아도 재발급은 한 번만 (리프레시 토큰은 한 번 쓰면 폐기됨)
+let refreshing: Promise<boolean> | null = null
+
+// 다른 탭과도 재발급을 직렬화 (같은 리프레시 토큰을 두 탭이 보내면 재사용으로 감지되어 family 전체가 폐기됨)
+function withRefreshLock<T>(task: () => Promise<T>): Promise<T> {
+  return navigator.locks ? navigator.locks.request('token-refresh', task) : task()
+}
+
+// staleAccessToken: 401을 받은 요청에 실었던 access 토큰
+async function refreshTokens(staleAccessToken: string | null): Promise<boolean> {
+  refreshing ??= withRefreshLock(async () => {
+    // 잠금을 기다리는 동안 다른 탭이 이미 재발급했으면 저장된 새 토큰을 그대로 사용
+    const currentAccessToken = localStorage.getItem('accessToken')
+    if (currentAccessToken !== staleAccessToken) {
+      return currentAccessToken !== null
+    }
+
+    const refreshToken = localStorage.getItem('refreshToken')
+    if (!refreshToken) return false
+
+    const response = await fetch(`${API_BASE_URL}/users/refresh`, {
+      method: 'POST',
+      headers: { 'Content-Type': 'application/json' },
+      body: JSON.stringify({ refreshToken }),
+    })
+    if (!response.ok) {
+      localStorage.removeItem('accessToken')
+      localStorage.removeItem('refreshToken')
+      return false
+    }
+    const data: { accessToken: string; refreshToken: string } = await response.json()
+    localStorage.setItem('accessToken', data.accessToken)
+    localStorage.setItem('refreshToken', data.refreshToken)
+    return true
+  }).finally(() => {
+    refreshing = null
+  })
+  return refreshing
+}
+
 // API 요청 헬퍼 함수
 async function apiRequest<T>(
   endpoint: string,
   options: RequestInit = {},
-  isMemberOnly: boolean = false
+  isMemberOnly: boolean = false,
+  retried: boolean = false
 ): Promise<T> {
   const url = `${API_BASE_URL}${endpoint}`
   
@@ -23,11 +64,9 @@ async function apiRequest<T>(
     ...options.headers,
   }
 
-  if(isMemberOnly){  
-    const accessToken = localStorage.getItem('accessToken')
-    if (accessToken) {
-      headers['Authorization'] = `Bearer ${accessToken}`
-    }
+  const accessToken = isMemberOnly ? localStorage.getItem('accessToken') : null
+  if (accessToken) {
+    headers['Authorization'] = `Bearer ${accessToken}`
   }
 
   const config: RequestInit = {
@@ -36,6 +75,11 @@ async function apiRequest<T>(
   }
 
   const response = await fetch(url, config)
+
+  // access 토큰 만료 시 리프레시 토큰으로 재발급 후 한 번만 다시 시도
+  if (response.status === 401 && isMemberOnly && !retried && await refreshTokens(accessToken)) {
+    return apiRequest<T>(endpoint, options, isMemberOnly, true)
+  }
   console.log(`API Request to ${url} with config:`, config);
   console.log('API Response status:', response.status);
   
@@ -77,6 +121,15 @@ export const boardApi = {
   async getBoards(): Promise<Board[]> {
     return apiRequest<Board[]>('/boards');
   },
+
+  // 게시판 인기 게시글 (최근 반응 기준 점수 순)
+  async getTrendingPosts(boardId: number, category?: Category, size?: number): Promise<Post[]> {
+    const params = new URLSearchParams()
+    if (category) params.append('category', category)
+    if (size) params.append('size', size.toString())
+
+    return apiRequest<Post[]>(`/boards/${boardId}/trending?${params.toString()}`);
+  },
 };
 
 // 포스트 관련 API
@@ -103,6 +156,23 @@ export const postApi = {
     return apiRequest<PaginatedResponse<Post>>(endpoint)
   },
 
+  // 포스트 목록 조회 (커서 기반)
+  async getPostsByCursor(filters: {
+    boardId: number;
+    cursor?: string;
+    size?: number;
+    category?: Category;
+  }): Promise<CursorResponse<Post>> {
+    const params = new URLSearchParams()
+
+    params.append('boardId', filters.boardId.toString())
+    if (filters.cursor) params.append('cursor', filters.cursor)
+    if (filters.size) params.append('size', filters.size.toString())
+    if (filters.category) params.append('category', filters.category)
+
+    return apiRequest<CursorResponse<Post>>(`/posts/cursor?${params.toString()}`)
+  },
+
   // 단일 포스트 조회
   async getPost(id: number): Promise<ApiResponse<Post>> {
     return apiRequest<ApiResponse<Post>>(`/posts/${id}`)
@@ -132,18 +202,25 @@ export const postApi = {
   },
 
   // 게시글 좋아요 토글
-  async togglePostLike(postId: number): Promise<ApiResponse<{ liked: boolean; likeCount: number }>> {
-    return apiRequest<ApiResponse<{ liked: boolean; likeCount: number }>>(`/likes/${postId}/posts`, {
+  async togglePostLike(postId: number): Promise<LikeState> {
+    return apiRequest<LikeState>(`/likes/${postId}/posts`, {
       method: 'POST',
     }, true)
   },
+
+  // 게시글 좋아요 설정/취소 (여러 번 호출해도 같은 결과)
+  async setPostLike(postId: number, liked: boolean): Promise<LikeState> {
+    return apiRequest<LikeState>(`/likes/${postId}/posts`, {
+      method: liked ? 'PUT' : 'DELETE',
+    }, true)
+  },
 }
 
 // 댓글 관련 API
 export const commentApi = {
   // 댓글 좋아요 토글
-  async toggleCommentLike(commentId: number): Promise<ApiResponse<{ liked: boolean; likeCount: number }>> {
-    return apiRequest<ApiResponse<{ liked: boolean; likeCount: number }>>(`/likes/${commentId}/comments`, {
+  async toggleCommentLike(commentId: number): Promise<LikeState> {
+    return apiRequest<LikeState>(`/likes/${commentId}/comments`, {
       method: 'POST',
     }, true)
   },
@@ -194,6 +271,48 @@ export const messageApi = {
     }, true)
   },
 
+  // 받은 쪽지 목록 조회 (커서 기반)
+  async getInboxMessagesByCursor(cursor?: string, size?: number): Promise<CursorResponse<Message>> {
+    const params = new URLSearchParams()
+    if (cursor) params.append('cursor', cursor)
+    if (size) params.append('size', size.toString())
+
+    return apiRequest<CursorResponse<Message>>(`/messages/inbox/cursor?${params.toString()}`, {
+      method: 'GET',
+    }, true)
+  },
+
+  // 보낸 쪽지 목록 조회 (커서 기반)
+  async getSentMessagesByCursor(cursor?: string, size?: number): Promise<CursorResponse<Message>> {
+    const params = new URLSearchParams()
+    if (cursor) params.append('cursor', cursor)
+    if (size) params.append('size', size.toString())
+
+    return apiRequest<CursorResponse<Message>>(`/messages/sent/cursor?${params.toString()}`, {
+      method: 'GET',
+    }, true)
+  },
+
+  // 새 쪽지 실시간 수신(SSE) 주소, EventSource는 헤더를 못 보내므로 일회용 티켓을 쿼리로 전달
+  // 티켓 발급은 일반 요청이라 access 토큰이 만료됐으면 여기서 재발급됨
+  async getStreamUrl(lastEventId?: string | null): Promise<string | null> {
+    if (!localStorage.getItem('accessToken')) return null
+    const ticket = await apiRequest<string>('/messages/stream-ticket', {
+      method: 'POST',
+    }, true)
+    const params = new URLSearchParams({ ticket })
+    // 새 EventSource는 Last-Event-ID 헤더를 보내지 않으므로 직접 전달
+    if (lastEventId) params.append('lastEventId', lastEventId)
+    return `${API_BASE_URL}/messages/stream?${params.toString()}`
+  },
+
+  // 안 읽은 쪽지 수
+  async getUnreadCount(): Promise<number> {
+    return apiRequest<number>('/messages/unread-count', {
+      method: 'GET',
+    }, true)
+  },
+
   // 쪽지 보내기
   async sendMessage(receiverUsername: string, content: string): Promise<Message> {
     return apiRequest<Message>(`/messages/${receiverUsername}`, {
@@ -231,13 +350,32 @@ export const userApi = {
   async getLikedPostIds(): Promise<number[]> {
     return apiRequest<number[]>('/users/me/liked-post-ids', {}, true); // 인증 필요
   },
+
+  // 주어진 게시글 중 좋아요 누른 ID만 조회
+  async getLikedPostIdsAmong(postIds: number[]): Promise<number[]> {
+    return apiRequest<number[]>(`/users/me/liked-posts?ids=${postIds.join(',')}`, {}, true); // 인증 필요
+  },
+
+  // 주어진 댓글 중 좋아요 누른 ID만 조회
+  async getLikedCommentIdsAmong(commentIds: number[]): Promise<number[]> {
+    return apiRequest<number[]>(`/users/me/liked-comments?ids=${commentIds.join(',')}`, {}, true); // 인증 필요
+  },
+
+  // 사용자 활동(작성한 게시글·댓글, 본인이면 좋아요 포함) 조회 (커서 기반)
+  async getUserActivity(userId: number, cursor?: string, size?: number): Promise<CursorResponse<Activity>> {
+    const params = new URLSearchParams()
+    if (cursor) params.append('cursor', cursor)
+    if (size) params.append('size', size.toString())
+
+    return apiRequest<CursorResponse<Activity>>(`/users/${userId}/activity?${params.toString()}`, {}, true) // 인증 필요
+  },
 }
 
 // 인증 관련 API
 export const authApi = {
   // 로그인
-  async login(credentials: { username: string; password: string }): Promise<{ id: number; accessToken: string }> {
-    return apiRequest<{ id: number; accessToken: string }>('/users/login', {
+  async login(credentials: { username: string; password: string }): Promise<{ id: number; accessToken: string; refreshToken: string }> {
+    return apiRequest<{ id: number; accessToken: string; refreshToken: string }>('/users/login', {
       method: 'POST',
       body: JSON.stringify(credentials),
     })
@@ -23,10 +23,14 @@ export interface Post {
   id: number
   title: string
   content: string
+  // 목록 API는 content 대신 앞부분 미리보기만 내려줌
+  excerpt?: string
   author: string
   authorId: number
   category: Category
   likeCount: number
+  // 로그인한 경우에만 내려옴
+  likedByMe?: boolean
   comments: number
   viewCount: number
   timeAgo: string
@@ -43,8 +47,10 @@ export interface Comment {
   parentCommentId?: number
   content: string
   likeCount: number
+  likedByMe?: boolean
   createdAt: string
   updatedAt: string
+  replies: Comment[]
 }
 
 export interface User {
@@ -55,6 +61,11 @@ export interface User {
   joinDate: string
 }
 
+export interface LikeState {
+  liked: boolean
+  likeCount: number
+}
+
 export interface ApiResponse<T> {
   data: T
   message: string
@@ -73,6 +84,13 @@ export interface PaginatedResponse<T> {
   success: boolean
 }
 
+export interface CursorResponse<T> {
+  content: T[]
+  size: number
+  nextCursor: string | null
+  hasNext: boolean
+}
+
 export interface PostFilters {
   search?: string
   page?: number
@@ -86,6 +104,19 @@ export interface Board {
   description: string;
 }
 
+// 사용자 활동 피드 항목 (type에 따라 채워지는 필드가 다름)
+export interface Activity {
+  type: "POST" | "COMMENT" | "LIKE"
+  id: number
+  createdAt: string
+  postId?: number
+  boardId?: number
+  title?: string
+  excerpt?: string
+  targetType?: "POST" | "COMMENT"
+  targetId?: number
+}
+
 export interface Message {
     id: number;
     senderId: number;
@@ -94,4 +125,5 @@ export interface Message {
     receiverUsername: string;
     content: string;
     createdAt: string;
+    read: boolean;
 }
\ No newline at end of file
@@ -0,0 +1,118 @@
+package com.example.joribhaejospring;
+
+import com.example.joribhaejospring.board.Board;
+import com.example.joribhaejospring.comment.Comment;
+import com.example.joribhaejospring.post.Post;
+import com.example.joribhaejospring.post.dto.PostSummaryResponse;
+import com.example.joribhaejospring.user.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// DB 없이 벤치마크를 돌리기 위한 메모리 픽스처 (값은 고정 시드로 매번 동일)
+public final class BenchmarkFixtures {
+    public static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    private BenchmarkFixtures() {
+    }
+
+    public static Board board() {
+        return Board.builder()
+                .id(1)
+                .name("자유게시판")
+                .description("아무 이야기나")
+                .createdAt(NOW)
+                .updatedAt(NOW)
+                .build();
+    }
+
+    public static User user(int id) {
+        return User.builder()
+                .id(id)
+                .username("user" + id)
+                .email("user" + id + "@example.com")
+                .password("{noop}password")
+                .createdAt(NOW)
+                .updatedAt(NOW)
+                .build();
+    }
+
+    public static List<Post> posts(int count, int contentLength) {
+        Board board = board();
+        String content = body(contentLength);
+        List<Post> posts = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            posts.add(Post.builder()
+                    .id(i)
+                    .board(board)
+                    .author(user(i % 10 + 1))
+                    .title("게시글 제목 " + i)
+                    .content(content)
+                    .category(Post.PostCategory.values()[i % Post.PostCategory.values().length])
+                    .viewCount(i * 3)
+                    .likeCount(i % 7)
+                    .createdAt(NOW.minusMinutes(i))
+                    .updatedAt(NOW.minusMinutes(i))
+                    .build());
+        }
+        return posts;
+    }
+
+    // PostRepository 요약 프로젝션이 돌려주는 것과 같은 모양
+    public static List<PostSummaryResponse> summaries(List<Post> posts, int excerptLength) {
+        return posts.stream()
+                .map(post -> new PostSummaryResponse(
+                        post.getId(),
+                        post.getBoard().getId(),
+                        post.getAuthor().getId(),
+                        post.getAuthor().getUsername(),
+                        post.getTitle(),
+                        excerptLength > 0
+                                ? post.getContent().substring(0, Math.min(excerptLength, post.getContent().length()))
+                                : null,
+                        post.getCategory(),
+                        post.getViewCount(),
+                        post.getLikeCount(),
+                        post.getCreatedAt(),
+                        post.getUpdatedAt()))
+                .toList();
+    }
+
+    // 루트 댓글마다 답글 repliesPerRoot개
+    public static List<Comment> comments(int roots, int repliesPerRoot) {
+        Post post = posts(1, 10).get(0);
+        List<Comment> comments = new ArrayList<>(roots * (repliesPerRoot + 1));
+        int id = 1;
+        for (int r = 0; r < roots; r++) {
+            Comment root = comment(id++, post, null);
+            comments.add(root);
+            for (int i = 0; i < repliesPerRoot; i++) {
+                comments.add(comment(id++, post, root));
+            }
+        }
+        return comments;
+    }
+
+    private static Comment comment(int id, Post post, Comment parent) {
+        return Comment.builder()
+                .id(id)
+                .post(post)
+                .author(user(id % 10 + 1))
+                .content("댓글 내용 " + id)
+                .parentComment(parent)
+                .likeCount(id % 5)
+                .createdAt(NOW.plusSeconds(id))
+                .updatedAt(NOW.plusSeconds(id))
+                .build();
+    }
+
+    private static String body(int length) {
+        StringBuilder sb = new StringBuilder(length);
+        String sentence = "게시판 본문으로 쓰이는 예시 문장입니다. ";
+        while (sb.length() < length) {
+            sb.append(sentence);
+        }
+        return sb.substring(0, length);
+    }
+}
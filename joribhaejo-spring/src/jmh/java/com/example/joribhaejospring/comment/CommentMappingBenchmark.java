@@ -0,0 +1,34 @@
+package com.example.joribhaejospring.comment;
+
+import com.example.joribhaejospring.BenchmarkFixtures;
+import com.example.joribhaejospring.comment.dto.CommentResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 게시글 하나의 댓글 전체를 DTO로 변환하는 비용
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CommentMappingBenchmark {
+    @Param({"20", "200"})
+    int roots;
+
+    @Param({"3"})
+    int repliesPerRoot;
+
+    List<Comment> comments;
+
+    @Setup
+    public void setUp() {
+        comments = BenchmarkFixtures.comments(roots, repliesPerRoot);
+    }
+
+    @Benchmark
+    public List<CommentResponse> fromEntity() {
+        return comments.stream()
+                .map(comment -> CommentResponse.fromEntity(comment, comment.getLikeCount()))
+                .toList();
+    }
+}
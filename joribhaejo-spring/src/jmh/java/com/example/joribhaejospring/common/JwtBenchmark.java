@@ -0,0 +1,52 @@
+package com.example.joribhaejospring.common;
+
+import com.example.joribhaejospring.BenchmarkFixtures;
+import com.example.joribhaejospring.user.User;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+// 요청마다 필터에서 수행되는 토큰 발급·검증 비용
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtBenchmark {
+    JwtUtil jwtUtil;
+    Authentication authentication;
+    String token;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        JwtProperties properties = new JwtProperties();
+        // 스프링 없이 @Value 필드를 직접 채움
+        set(properties, "JWT_SECRET", "benchmark-secret-key-benchmark-secret-key-0123456789");
+        set(properties, "JWT_ACCESS_EXP", 3_600_000L);
+        set(properties, "JWT_REFRESH_EXP", 1_209_600_000L);
+
+        jwtUtil = new JwtUtil(properties);
+        jwtUtil.init();
+
+        User user = BenchmarkFixtures.user(1);
+        authentication = new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
+        token = jwtUtil.generateAccessToken(authentication);
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtUtil.generateAccessToken(authentication);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtUtil.validateToken(token);
+    }
+
+    private static void set(Object target, String name, Object value) throws ReflectiveOperationException {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.joribhaejospring.common;
+
+import com.example.joribhaejospring.BenchmarkFixtures;
+import com.example.joribhaejospring.post.Post;
+import com.example.joribhaejospring.post.dto.PageResponse;
+import com.example.joribhaejospring.post.dto.PostSummaryResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+// 게시글 목록 응답: 직렬화만 vs 직렬화 + gzip(Tomcat 기본 레벨 6, 최고 속도 1) vs 304 경로(ETag 계산만)
+// 전송 바이트는 보조 결과(payloadBytes)로, 요청당 CPU 비용은 각 벤치마크 시간 차이로 비교
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseCompressionBenchmark {
+    @Param({"10", "50"})
+    int pageSize;
+
+    @Param({"1", "6"})
+    int level;
+
+    ObjectMapper objectMapper;
+    PageResponse<PostSummaryResponse> page;
+
+    // 결과 파일에 전송 바이트를 함께 남기기 위한 보조 카운터 (마지막 응답의 바이트 수)
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Payload {
+        public long payloadBytes;
+    }
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        List<Post> posts = BenchmarkFixtures.posts(pageSize, 2000);
+        page = PageResponse.fromPage(new PageImpl<>(
+                BenchmarkFixtures.summaries(posts, 100), PageRequest.of(0, pageSize), 1000));
+    }
+
+    @Benchmark
+    public byte[] serialize(Payload payload) throws JsonProcessingException {
+        byte[] json = objectMapper.writeValueAsBytes(page);
+        payload.payloadBytes = json.length;
+        return json;
+    }
+
+    @Benchmark
+    public byte[] serializeAndGzip(Payload payload) throws IOException {
+        byte[] compressed = gzip(objectMapper.writeValueAsBytes(page), level);
+        payload.payloadBytes = compressed.length;
+        return compressed;
+    }
+
+    // If-None-Match가 일치할 때 하는 일: 버전 값으로 ETag만 계산 (본문 없이 304)
+    @Benchmark
+    public String notModified(Payload payload) {
+        payload.payloadBytes = 0;
+        return HttpCaching.weakEtag("posts", 1, null, "", false, true, 0, pageSize, 42,
+                1000L, BenchmarkFixtures.NOW);
+    }
+
+    private static byte[] gzip(byte[] json, int level) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer) {
+            {
+                def.setLevel(level);
+            }
+        }) {
+            out.write(json);
+        }
+        return buffer.toByteArray();
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.joribhaejospring.common.ratelimit;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// 제한에 걸리지 않는 요청이 속도 제한 때문에 추가로 쓰는 시간 (키 조회 + CAS 한 번)
+// hotKey: 모든 스레드가 같은 키 (CAS 경합 최악), spreadKeys: 사용자마다 다른 키 (실제 분포)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(4)
+public class RateLimiterBenchmark {
+    private static final int USERS = 10_000;
+
+    GcraRateLimiter limiter;
+    String[] keys;
+
+    @Setup
+    public void setUp() {
+        // 사실상 제한 없는 설정으로 항상 허용 경로만 측정
+        limiter = new GcraRateLimiter(Integer.MAX_VALUE, Duration.ofSeconds(1), Integer.MAX_VALUE / 2);
+        keys = new String[USERS];
+        for (int i = 0; i < USERS; i++) {
+            keys[i] = "user:" + i;
+        }
+    }
+
+    @Benchmark
+    public long hotKey() {
+        return limiter.tryAcquire(keys[0], System.nanoTime());
+    }
+
+    @Benchmark
+    public long spreadKeys() {
+        return limiter.tryAcquire(keys[ThreadLocalRandom.current().nextInt(USERS)], System.nanoTime());
+    }
+
+    // 비교 기준: 키 선택과 시각 조회만
+    @Benchmark
+    public long baseline() {
+        return keys[ThreadLocalRandom.current().nextInt(USERS)].length() + System.nanoTime();
+    }
+}
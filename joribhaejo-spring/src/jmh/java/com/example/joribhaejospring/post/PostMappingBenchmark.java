@@ -0,0 +1,47 @@
+package com.example.joribhaejospring.post;
+
+import com.example.joribhaejospring.BenchmarkFixtures;
+import com.example.joribhaejospring.post.dto.PageResponse;
+import com.example.joribhaejospring.post.dto.PostResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 목록 한 페이지 분량의 엔티티 → DTO 변환 비용
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PostMappingBenchmark {
+    @Param({"10", "50"})
+    int pageSize;
+
+    @Param({"200", "4000"})
+    int contentLength;
+
+    List<Post> posts;
+    Page<PostResponse> mappedPage;
+
+    @Setup
+    public void setUp() {
+        posts = BenchmarkFixtures.posts(pageSize, contentLength);
+        mappedPage = new PageImpl<>(posts.stream()
+                .map(post -> PostResponse.fromEntity(post, post.getLikeCount()))
+                .toList(), PageRequest.of(0, pageSize), 1000);
+    }
+
+    @Benchmark
+    public List<PostResponse> fromEntity() {
+        return posts.stream()
+                .map(post -> PostResponse.fromEntity(post, post.getLikeCount(), post.getViewCount()))
+                .toList();
+    }
+
+    @Benchmark
+    public PageResponse<PostResponse> fromPage() {
+        return PageResponse.fromPage(mappedPage);
+    }
+}
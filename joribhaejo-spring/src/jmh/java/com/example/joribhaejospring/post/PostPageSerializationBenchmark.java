@@ -0,0 +1,67 @@
+package com.example.joribhaejospring.post;
+
+import com.example.joribhaejospring.BenchmarkFixtures;
+import com.example.joribhaejospring.post.dto.PageResponse;
+import com.example.joribhaejospring.post.dto.PostResponse;
+import com.example.joribhaejospring.post.dto.PostSummaryResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 목록 응답 JSON 직렬화: 본문 전체(PostResponse) vs 요약(PostSummaryResponse)
+// 응답 크기는 보조 결과(payloadBytes)로, 요청당 할당량은 gc 프로파일러 결과(gc.alloc.rate.norm)로 비교
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PostPageSerializationBenchmark {
+    @Param({"10", "50"})
+    int pageSize;
+
+    @Param({"200", "4000"})
+    int contentLength;
+
+    ObjectMapper objectMapper;
+    PageResponse<PostResponse> fullPage;
+    PageResponse<PostSummaryResponse> summaryPage;
+
+    // 결과 파일에 응답 크기를 함께 남기기 위한 보조 카운터 (마지막 응답의 바이트 수)
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Payload {
+        public long payloadBytes;
+    }
+
+    @Setup
+    public void setUp() {
+        // 스프링 부트와 같은 설정(JavaTimeModule 등)으로 생성
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        List<Post> posts = BenchmarkFixtures.posts(pageSize, contentLength);
+        PageRequest pageable = PageRequest.of(0, pageSize);
+        fullPage = PageResponse.fromPage(new PageImpl<>(posts.stream()
+                .map(post -> PostResponse.fromEntity(post, post.getLikeCount()))
+                .toList(), pageable, 1000));
+        summaryPage = PageResponse.fromPage(new PageImpl<>(
+                BenchmarkFixtures.summaries(posts, PostService.EXCERPT_LENGTH), pageable, 1000));
+    }
+
+    @Benchmark
+    public byte[] fullPage(Payload payload) throws JsonProcessingException {
+        byte[] json = objectMapper.writeValueAsBytes(fullPage);
+        payload.payloadBytes = json.length;
+        return json;
+    }
+
+    @Benchmark
+    public byte[] summaryPage(Payload payload) throws JsonProcessingException {
+        byte[] json = objectMapper.writeValueAsBytes(summaryPage);
+        payload.payloadBytes = json.length;
+        return json;
+    }
+}
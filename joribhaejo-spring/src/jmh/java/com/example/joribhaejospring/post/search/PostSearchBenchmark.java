@@ -0,0 +1,187 @@
+package com.example.joribhaejospring.post.search;
+
+import com.example.joribhaejospring.post.Post;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+// 검색 한 페이지(목록 + 전체 건수) 비용: 기존 제목 LIKE 쿼리 vs n-gram 색인 + id IN 조회
+// H2(MySQL 모드) 메모리 DB라 실제 MySQL과 절대값은 다르지만 LIKE는 둘 다 board 전체를 훑음
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class PostSearchBenchmark {
+    private static final int BOARD_ID = 1;
+    private static final int PAGE_SIZE = 20;
+    private static final int VOCABULARY_SIZE = 20_000;
+    private static final int TITLE_WORDS = 5;
+    private static final int CONTENT_WORDS = 30;
+
+    private static final String LIKE_PAGE = "SELECT id, title, created_at FROM posts " +
+            "WHERE board_id = ? AND LOWER(title) LIKE ? ORDER BY created_at DESC LIMIT ? OFFSET 0";
+    private static final String LIKE_COUNT = "SELECT COUNT(*) FROM posts WHERE board_id = ? AND LOWER(title) LIKE ?";
+
+    @Param({"100000", "1000000"})
+    int postCount;
+
+    // common: 가장 흔한 단어, rare: 드문 단어, twoWords: 흔한 단어 두 개 (AND)
+    @Param({"common", "rare", "twoWords"})
+    String query;
+
+    Connection connection;
+    PostSearchIndex index;
+    String keyword;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        Random random = new Random(42);
+        List<String> vocabulary = vocabulary(random);
+        keyword = switch (query) {
+            case "common" -> vocabulary.get(0);
+            case "rare" -> vocabulary.get(VOCABULARY_SIZE / 2);
+            case "twoWords" -> vocabulary.get(1) + " " + vocabulary.get(3);
+            default -> throw new IllegalArgumentException(query);
+        };
+
+        connection = DriverManager.getConnection("jdbc:h2:mem:search;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS posts");
+            statement.execute("CREATE TABLE posts (id INT PRIMARY KEY, board_id INT NOT NULL, " +
+                    "category VARCHAR(20) NOT NULL, title VARCHAR(200) NOT NULL, content TEXT NOT NULL, " +
+                    "created_at TIMESTAMP NOT NULL)");
+            statement.execute("CREATE INDEX idx_posts_board_created ON posts (board_id, created_at, id)");
+        }
+
+        // PostSearchIndex는 재색인 없이 이벤트로만 채움 (저장소는 사용하지 않음)
+        index = new PostSearchIndex(null);
+        Post.PostCategory[] categories = Post.PostCategory.values();
+        long now = System.currentTimeMillis();
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO posts VALUES (?, ?, ?, ?, ?, ?)")) {
+            for (int id = 1; id <= postCount; id++) {
+                String title = words(vocabulary, random, TITLE_WORDS);
+                String content = words(vocabulary, random, CONTENT_WORDS);
+                Post.PostCategory category = categories[id % categories.length];
+                index.onPostChanged(new PostChangedEvent(id, BOARD_ID, category, title, content, false));
+
+                insert.setInt(1, id);
+                insert.setInt(2, BOARD_ID);
+                insert.setString(3, category.name());
+                insert.setString(4, title);
+                insert.setString(5, content);
+                insert.setTimestamp(6, new Timestamp(now - id * 1000L));
+                insert.addBatch();
+                if (id % 10_000 == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE posts");
+        }
+        connection.close();
+    }
+
+    // PostRepository.findSummaries와 같은 모양: 페이지 + count 쿼리
+    @Benchmark
+    public List<Integer> like() throws SQLException {
+        String pattern = "%" + keyword + "%";
+        List<Integer> ids = new ArrayList<>(PAGE_SIZE);
+        try (PreparedStatement page = connection.prepareStatement(LIKE_PAGE)) {
+            page.setInt(1, BOARD_ID);
+            page.setString(2, pattern);
+            page.setInt(3, PAGE_SIZE);
+            try (ResultSet rs = page.executeQuery()) {
+                while (rs.next()) {
+                    ids.add(rs.getInt(1));
+                }
+            }
+        }
+        try (PreparedStatement count = connection.prepareStatement(LIKE_COUNT)) {
+            count.setInt(1, BOARD_ID);
+            count.setString(2, pattern);
+            try (ResultSet rs = count.executeQuery()) {
+                rs.next();
+                ids.add(rs.getInt(1));
+            }
+        }
+        return ids;
+    }
+
+    @Benchmark
+    public Page<Integer> indexOnly() {
+        return index.search(BOARD_ID, null, keyword, PageRequest.of(0, PAGE_SIZE));
+    }
+
+    // PostService 색인 경로와 같은 모양: 색인으로 id를 고른 뒤 해당 행만 PK로 조회
+    @Benchmark
+    public List<Integer> indexWithLoad() throws SQLException {
+        Page<Integer> page = index.search(BOARD_ID, null, keyword, PageRequest.of(0, PAGE_SIZE));
+        List<Integer> ids = new ArrayList<>(page.getNumberOfElements() + 1);
+        if (page.hasContent()) {
+            String placeholders = String.join(",", Collections.nCopies(page.getNumberOfElements(), "?"));
+            try (PreparedStatement load = connection.prepareStatement(
+                    "SELECT id, title, created_at FROM posts WHERE id IN (" + placeholders + ")")) {
+                for (int i = 0; i < page.getNumberOfElements(); i++) {
+                    load.setInt(i + 1, page.getContent().get(i));
+                }
+                try (ResultSet rs = load.executeQuery()) {
+                    while (rs.next()) {
+                        ids.add(rs.getInt(1));
+                    }
+                }
+            }
+        }
+        ids.add((int) page.getTotalElements());
+        return ids;
+    }
+
+    // 2~3음절 무작위 한글 단어, 앞쪽 순위일수록 자주 쓰임
+    private static List<String> vocabulary(Random random) {
+        Set<String> words = new LinkedHashSet<>();
+        while (words.size() < VOCABULARY_SIZE) {
+            int syllables = 2 + random.nextInt(2);
+            StringBuilder word = new StringBuilder(syllables);
+            for (int i = 0; i < syllables; i++) {
+                word.append((char) (0xAC00 + random.nextInt(11172)));
+            }
+            words.add(word.toString());
+        }
+        return new ArrayList<>(words);
+    }
+
+    // 순위 r이 뽑힐 확률이 대략 1/r에 비례 (Zipf 분포 근사)
+    private static String words(List<String> vocabulary, Random random, int count) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            int rank = (int) Math.pow(vocabulary.size(), random.nextDouble()) - 1;
+            if (i > 0) {
+                text.append(' ');
+            }
+            text.append(vocabulary.get(rank));
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.joribhaejospring.user;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+// BCrypt 강도별 로그인(검증)·가입(해시) 처리량, password-hashing.bcrypt-strength 결정용
+// 스레드 하나 기준이므로 초당 로그인 한도 ≈ matches 결과 × password-hashing.threads (코어 수 이하)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PasswordHashingBenchmark {
+    private static final String PASSWORD = "benchmark-password-1234";
+
+    @Param({"8", "10", "12"})
+    int strength;
+
+    BCryptPasswordEncoder encoder;
+    String encoded;
+
+    @Setup
+    public void setUp() {
+        encoder = new BCryptPasswordEncoder(strength);
+        encoded = encoder.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return encoder.matches(PASSWORD, encoded);
+    }
+
+    @Benchmark
+    public String encode() {
+        return encoder.encode(PASSWORD);
+    }
+}
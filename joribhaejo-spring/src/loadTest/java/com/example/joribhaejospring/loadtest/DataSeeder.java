@@ -0,0 +1,175 @@
+package com.example.joribhaejospring.loadtest;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// JPA를 거치지 않고 JdbcTemplate 배치 INSERT로 대량 데이터 생성
+// AUTO_INCREMENT id가 1부터 삽입 순서대로 매겨진다는 전제로 FK를 계산하므로 빈 DB에서만 실행
+class DataSeeder {
+    static final String PASSWORD = "loadtest-password";
+
+    private static final int BATCH_SIZE = 1_000;
+    private static final String[] CATEGORIES = {"WEB", "MOBILE", "BACK", "HARD", "AI", "NETWORK", "SECURITY", "DEVOPS", "ETC"};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LoadTestSettings settings;
+    // 실행마다 같은 데이터가 나오도록 고정 시드
+    private final Random random = new Random(42);
+    private final LocalDateTime now = LocalDateTime.now();
+
+    DataSeeder(JdbcTemplate jdbcTemplate, LoadTestSettings settings) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.settings = settings;
+    }
+
+    static String username(int userId) {
+        return "user" + userId;
+    }
+
+    static String email(int userId) {
+        return "user" + userId + "@loadtest.local";
+    }
+
+    // passwordHash: 사용자마다 BCrypt를 돌리면 시딩이 분 단위로 느려지므로 한 번 계산한 값을 공유
+    void seed(String passwordHash) {
+        insertUsers(passwordHash);
+        insertBoards();
+        insertPosts();
+        insertComments();
+        insertLikes();
+        insertMessages();
+        syncLikeCounts();
+    }
+
+    private void insertUsers(String passwordHash) {
+        List<Object[]> rows = new ArrayList<>(settings.users());
+        for (int id = 1; id <= settings.users(); id++) {
+            rows.add(new Object[]{username(id), email(id), passwordHash});
+        }
+        batch("INSERT INTO users (username, email, password) VALUES (?, ?, ?)", rows);
+    }
+
+    private void insertBoards() {
+        List<Object[]> rows = new ArrayList<>(settings.boards());
+        for (int id = 1; id <= settings.boards(); id++) {
+            rows.add(new Object[]{"board" + id, "부하 테스트 게시판 " + id});
+        }
+        batch("INSERT INTO boards (name, description) VALUES (?, ?)", rows);
+    }
+
+    private void insertPosts() {
+        String content = body(settings.contentLength());
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        for (int id = 1; id <= settings.posts(); id++) {
+            Timestamp createdAt = pastTimestamp();
+            rows.add(new Object[]{
+                    id % settings.boards() + 1,
+                    randomUser(),
+                    "부하 테스트 게시글 " + id + " " + CATEGORIES[id % CATEGORIES.length],
+                    content,
+                    CATEGORIES[random.nextInt(CATEGORIES.length)],
+                    random.nextInt(1_000),
+                    createdAt,
+                    createdAt
+            });
+            rows = flushIfFull("INSERT INTO posts (board_id, author_id, title, content, category, view_count, created_at, updated_at) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", rows);
+        }
+        batch("INSERT INTO posts (board_id, author_id, title, content, category, view_count, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", rows);
+    }
+
+    // 게시글마다 첫 댓글을 루트로 두고, 나머지 중 30%는 그 루트의 답글
+    private void insertComments() {
+        String sql = "INSERT INTO comments (post_id, author_id, content, parent_comment_id) VALUES (?, ?, ?, ?)";
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        int commentId = 0;
+        for (int postId = 1; postId <= settings.posts(); postId++) {
+            int rootId = commentId + 1;
+            for (int i = 0; i < settings.commentsPerPost(); i++) {
+                commentId++;
+                Integer parentId = (i > 0 && random.nextInt(10) < 3) ? rootId : null;
+                rows.add(new Object[]{postId, randomUser(), "댓글 " + commentId, parentId});
+                rows = flushIfFull(sql, rows);
+            }
+        }
+        batch(sql, rows);
+    }
+
+    // (user, target) 유니크 제약을 지키도록 게시글마다 연속된 사용자 구간을 선택
+    private void insertLikes() {
+        String sql = "INSERT INTO likes (user_id, target_type, target_id) VALUES (?, ?, ?)";
+        int likesPerPost = Math.min(settings.likesPerPost(), settings.users());
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        for (int postId = 1; postId <= settings.posts(); postId++) {
+            int count = random.nextInt(likesPerPost * 2 + 1);
+            int start = random.nextInt(settings.users());
+            for (int i = 0; i < Math.min(count, settings.users()); i++) {
+                rows.add(new Object[]{(start + i) % settings.users() + 1, "POST", postId});
+                rows = flushIfFull(sql, rows);
+            }
+        }
+        int comments = settings.posts() * settings.commentsPerPost();
+        for (int commentId = 1; commentId <= comments; commentId += 3) {
+            rows.add(new Object[]{randomUser(), "COMMENT", commentId});
+            rows = flushIfFull(sql, rows);
+        }
+        batch(sql, rows);
+    }
+
+    private void insertMessages() {
+        String sql = "INSERT INTO messages (sender_id, receiver_id, content, created_at) VALUES (?, ?, ?, ?)";
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        for (int i = 1; i <= settings.messages(); i++) {
+            int sender = randomUser();
+            int receiver = sender % settings.users() + 1;
+            rows.add(new Object[]{sender, receiver, "쪽지 " + i, pastTimestamp()});
+            rows = flushIfFull(sql, rows);
+        }
+        batch(sql, rows);
+    }
+
+    // 비정규화된 like_count를 likes 테이블 기준으로 맞춤
+    private void syncLikeCounts() {
+        jdbcTemplate.update("UPDATE posts p SET like_count = " +
+                "(SELECT COUNT(*) FROM likes l WHERE l.target_type = 'POST' AND l.target_id = p.id)");
+        jdbcTemplate.update("UPDATE comments c SET like_count = " +
+                "(SELECT COUNT(*) FROM likes l WHERE l.target_type = 'COMMENT' AND l.target_id = c.id)");
+    }
+
+    private List<Object[]> flushIfFull(String sql, List<Object[]> rows) {
+        if (rows.size() < BATCH_SIZE) {
+            return rows;
+        }
+        batch(sql, rows);
+        return new ArrayList<>(BATCH_SIZE);
+    }
+
+    private void batch(String sql, List<Object[]> rows) {
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, rows);
+        }
+    }
+
+    private int randomUser() {
+        return random.nextInt(settings.users()) + 1;
+    }
+
+    // 최근 90일 안에 고르게 분포
+    private Timestamp pastTimestamp() {
+        return Timestamp.valueOf(now.minusSeconds(random.nextInt(90 * 24 * 60 * 60)));
+    }
+
+    private static String body(int length) {
+        StringBuilder sb = new StringBuilder(length);
+        while (sb.length() < length) {
+            sb.append("부하 테스트용 본문입니다. 목록 응답 크기와 검색 색인 비용을 실제와 비슷하게 맞추기 위한 문장. ");
+        }
+        return sb.substring(0, length);
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.joribhaejospring.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+// 워커 스레드마다 하나씩 두고 마지막에 병합 (기록 시 동기화 없음)
+class LatencyRecorder {
+    private final Map<String, Samples> samples = new LinkedHashMap<>();
+
+    void record(String endpoint, long nanos, boolean success) {
+        samples.computeIfAbsent(endpoint, key -> new Samples()).add(nanos, success);
+    }
+
+    void mergeInto(Map<String, Samples> target) {
+        samples.forEach((endpoint, s) -> target.computeIfAbsent(endpoint, key -> new Samples()).addAll(s));
+    }
+
+    static Map<String, EndpointReport> report(Map<String, Samples> merged, double seconds) {
+        Map<String, EndpointReport> reports = new TreeMap<>();
+        merged.forEach((endpoint, s) -> reports.put(endpoint, s.toReport(seconds)));
+        return reports;
+    }
+
+    static final class Samples {
+        private long[] nanos = new long[1024];
+        private int count;
+        private int errors;
+
+        private void add(long value, boolean success) {
+            if (count == nanos.length) {
+                nanos = Arrays.copyOf(nanos, count * 2);
+            }
+            nanos[count++] = value;
+            if (!success) {
+                errors++;
+            }
+        }
+
+        private void addAll(Samples other) {
+            if (count + other.count > nanos.length) {
+                nanos = Arrays.copyOf(nanos, Math.max(nanos.length * 2, count + other.count));
+            }
+            System.arraycopy(other.nanos, 0, nanos, count, other.count);
+            count += other.count;
+            errors += other.errors;
+        }
+
+        private EndpointReport toReport(double seconds) {
+            long[] sorted = Arrays.copyOf(nanos, count);
+            Arrays.sort(sorted);
+            return new EndpointReport(
+                    count,
+                    errors,
+                    count / seconds,
+                    percentileMillis(sorted, 50),
+                    percentileMillis(sorted, 95),
+                    percentileMillis(sorted, 99),
+                    count == 0 ? 0 : sorted[count - 1] / 1_000_000.0
+            );
+        }
+
+        // nearest-rank 방식
+        private static double percentileMillis(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+            return sorted[Math.max(rank, 1) - 1] / 1_000_000.0;
+        }
+    }
+
+    record EndpointReport(long requests, long errors, double throughput,
+                          double p50Millis, double p95Millis, double p99Millis, double maxMillis) {
+    }
+}
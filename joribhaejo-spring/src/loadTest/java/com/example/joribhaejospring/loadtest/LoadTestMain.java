@@ -0,0 +1,92 @@
+package com.example.joribhaejospring.loadtest;
+
+import com.example.joribhaejospring.JoribhaejoSpringApplication;
+import com.example.joribhaejospring.post.search.PostSearchIndex;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 임베디드 H2(MySQL 모드)로 앱을 띄우고 데이터 시딩 → 혼합 시나리오 실행 → 엔드포인트별 결과 출력
+// 실행: ./gradlew loadTest -Ploadtest.posts=50000 -Ploadtest.concurrency=32,256 -Ploadtest.virtual-threads=false,true
+public class LoadTestMain {
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        ObjectMapper objectMapper = null;
+        List<Map<String, Object>> runs = new ArrayList<>();
+
+        for (boolean virtualThreads : settings.virtualThreadModes()) {
+            String mode = virtualThreads ? "virtual" : "platform";
+            try (ServletWebServerApplicationContext context = (ServletWebServerApplicationContext)
+                    new SpringApplicationBuilder(JoribhaejoSpringApplication.class)
+                            .profiles("loadtest")
+                            .properties(
+                                    "spring.threads.virtual.enabled=" + virtualThreads,
+                                    // 모드마다 빈 DB에서 시작
+                                    "loadtest.database=loadtest_" + mode)
+                            .run(args)) {
+                seed(context, settings);
+                objectMapper = context.getBean(ObjectMapper.class);
+
+                URI baseUri = URI.create("http://localhost:" + context.getWebServer().getPort());
+                ScenarioRunner runner = new ScenarioRunner(baseUri, settings, objectMapper);
+                for (int concurrency : settings.concurrencyLevels()) {
+                    Map<String, LatencyRecorder.EndpointReport> reports = runner.run(concurrency);
+                    System.out.printf("%n[threads=%s, concurrency=%d]%n", mode, concurrency);
+                    print(reports);
+
+                    Map<String, Object> run = new LinkedHashMap<>();
+                    run.put("threads", mode);
+                    run.put("concurrency", concurrency);
+                    run.put("endpoints", reports);
+                    runs.add(run);
+                }
+            }
+        }
+
+        if (objectMapper != null) {
+            write(settings, runs, objectMapper);
+        }
+    }
+
+    private static void seed(ServletWebServerApplicationContext context, LoadTestSettings settings) {
+        long seedStart = System.nanoTime();
+        new DataSeeder(context.getBean(JdbcTemplate.class), settings)
+                .seed(context.getBean(PasswordEncoder.class).encode(DataSeeder.PASSWORD));
+        // 시작 시점(빈 DB)에 만들어진 색인을 시딩된 데이터로 다시 구성
+        context.getBean(PostSearchIndex.class).rebuild();
+        System.out.printf("seeded in %.1fs: %s%n", (System.nanoTime() - seedStart) / 1e9, settings);
+    }
+
+    private static void print(Map<String, LatencyRecorder.EndpointReport> reports) {
+        System.out.printf("%-45s %9s %7s %10s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)");
+        reports.forEach((endpoint, r) -> System.out.printf("%-45s %9d %7d %10.1f %9.2f %9.2f %9.2f %9.2f%n",
+                endpoint, r.requests(), r.errors(), r.throughput(),
+                r.p50Millis(), r.p95Millis(), r.p99Millis(), r.maxMillis()));
+        double total = reports.values().stream().mapToDouble(LatencyRecorder.EndpointReport::throughput).sum();
+        long errors = reports.values().stream().mapToLong(LatencyRecorder.EndpointReport::errors).sum();
+        System.out.printf("%-45s %9s %7d %10.1f%n", "total", "", errors, total);
+    }
+
+    private static void write(LoadTestSettings settings, List<Map<String, Object>> runs,
+                              ObjectMapper objectMapper) throws Exception {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("settings", settings);
+        result.put("runs", runs);
+
+        Files.createDirectories(settings.reportFile().toAbsolutePath().getParent());
+        objectMapper.writer(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(settings.reportFile().toFile(), result);
+        System.out.println("report written to " + settings.reportFile().toAbsolutePath());
+    }
+}
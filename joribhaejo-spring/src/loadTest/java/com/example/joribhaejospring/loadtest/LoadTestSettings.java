@@ -0,0 +1,48 @@
+package com.example.joribhaejospring.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+// -Dloadtest.* 시스템 프로퍼티로 조정 (gradle loadTest -Ploadtest.posts=100000 처럼 전달)
+record LoadTestSettings(
+        int users,
+        int boards,
+        int posts,
+        int commentsPerPost,
+        int likesPerPost,
+        int messages,
+        int contentLength,
+        List<Boolean> virtualThreadModes,
+        List<Integer> concurrencyLevels,
+        Duration warmup,
+        Duration duration,
+        Path reportFile
+) {
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Integer.getInteger("loadtest.users", 1_000),
+                Integer.getInteger("loadtest.boards", 5),
+                Integer.getInteger("loadtest.posts", 20_000),
+                Integer.getInteger("loadtest.comments-per-post", 5),
+                Integer.getInteger("loadtest.likes-per-post", 10),
+                Integer.getInteger("loadtest.messages", 20_000),
+                Integer.getInteger("loadtest.content-length", 1_500),
+                // 예: -Ploadtest.virtual-threads=false,true -Ploadtest.concurrency=32,256,1024
+                // 모드마다 앱을 새로 띄우고, 동시성 단계별로 같은 시나리오를 반복해 처리량 상한을 비교
+                csv("loadtest.virtual-threads", "false").stream().map(Boolean::parseBoolean).toList(),
+                csv("loadtest.concurrency", "32").stream().map(Integer::parseInt).toList(),
+                Duration.ofSeconds(Integer.getInteger("loadtest.warmup-seconds", 10)),
+                Duration.ofSeconds(Integer.getInteger("loadtest.duration-seconds", 60)),
+                Path.of(System.getProperty("loadtest.report-file", "build/results/loadtest/report.json"))
+        );
+    }
+
+    private static List<String> csv(String key, String defaultValue) {
+        return Arrays.stream(System.getProperty(key, defaultValue).split(","))
+                .map(String::trim)
+                .filter(value -> !value.isEmpty())
+                .toList();
+    }
+}
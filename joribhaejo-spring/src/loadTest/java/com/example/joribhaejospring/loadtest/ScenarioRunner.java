@@ -0,0 +1,181 @@
+package com.example.joribhaejospring.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+// 동시 사용자 수만큼 워커를 띄워 읽기/쓰기 혼합 시나리오를 정해진 시간 동안 반복
+class ScenarioRunner {
+    // 시나리오별 가중치 (합 100)
+    private enum Scenario {
+        LIST_POSTS(35),
+        LIST_POSTS_CURSOR(10),
+        GET_POST(20),
+        GET_COMMENTS(15),
+        CREATE_COMMENT(5),
+        TOGGLE_LIKE(7),
+        INBOX(5),
+        SEND_MESSAGE(3);
+
+        private final int weight;
+
+        Scenario(int weight) {
+            this.weight = weight;
+        }
+
+        static Scenario pick(int roll) {
+            for (Scenario scenario : values()) {
+                roll -= scenario.weight;
+                if (roll < 0) {
+                    return scenario;
+                }
+            }
+            return LIST_POSTS;
+        }
+    }
+
+    private final URI baseUri;
+    private final LoadTestSettings settings;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    ScenarioRunner(URI baseUri, LoadTestSettings settings, ObjectMapper objectMapper) {
+        this.baseUri = baseUri;
+        this.settings = settings;
+        this.objectMapper = objectMapper;
+    }
+
+    Map<String, LatencyRecorder.EndpointReport> run(int concurrency) throws Exception {
+        // 클라이언트 쪽이 병목이 되지 않도록 워커는 가상 스레드로 실행
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            long start = System.nanoTime();
+            long measureFrom = start + settings.warmup().toNanos();
+            long deadline = measureFrom + settings.duration().toNanos();
+
+            List<Future<LatencyRecorder>> futures = new ArrayList<>();
+            for (int worker = 0; worker < concurrency; worker++) {
+                int userId = worker % settings.users() + 1;
+                futures.add(executor.submit(() -> runWorker(userId, measureFrom, deadline)));
+            }
+
+            Map<String, LatencyRecorder.Samples> merged = new LinkedHashMap<>();
+            for (Future<LatencyRecorder> future : futures) {
+                future.get().mergeInto(merged);
+            }
+            return LatencyRecorder.report(merged, settings.duration().toNanos() / 1e9);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private LatencyRecorder runWorker(int userId, long measureFrom, long deadline) throws IOException, InterruptedException {
+        String token = login(userId);
+        LatencyRecorder recorder = new LatencyRecorder();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        long now;
+        while ((now = System.nanoTime()) < deadline) {
+            Scenario scenario = Scenario.pick(random.nextInt(100));
+            HttpRequest request = request(scenario, token, random);
+            String endpoint = request.method() + " " + label(scenario);
+
+            long begin = System.nanoTime();
+            boolean success;
+            try {
+                HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                success = response.statusCode() < 400;
+            } catch (IOException e) {
+                success = false;
+            }
+            long elapsed = System.nanoTime() - begin;
+
+            // 워밍업 구간은 버림
+            if (now >= measureFrom) {
+                recorder.record(endpoint, elapsed, success);
+            }
+        }
+        return recorder;
+    }
+
+    private HttpRequest request(Scenario scenario, String token, ThreadLocalRandom random) throws IOException {
+        int boardId = random.nextInt(settings.boards()) + 1;
+        int postId = random.nextInt(settings.posts()) + 1;
+        return switch (scenario) {
+            case LIST_POSTS -> get("/api/posts?boardId=" + boardId + "&page=" + random.nextInt(5) + "&size=20", null);
+            case LIST_POSTS_CURSOR -> get("/api/posts/cursor?boardId=" + boardId + "&size=20", null);
+            case GET_POST -> get("/api/posts/" + postId, null);
+            case GET_COMMENTS -> get("/api/posts/" + postId + "/comments", null);
+            case CREATE_COMMENT -> post("/api/comments/" + postId, token,
+                    Map.of("postId", postId, "content", "부하 테스트 댓글"));
+            case TOGGLE_LIKE -> post("/api/likes/" + postId + "/posts", token, null);
+            case INBOX -> get("/api/messages/inbox/cursor?size=20", token);
+            case SEND_MESSAGE -> post("/api/messages/" + DataSeeder.username(random.nextInt(settings.users()) + 1), token,
+                    Map.of("content", "부하 테스트 쪽지"));
+        };
+    }
+
+    private static String label(Scenario scenario) {
+        return switch (scenario) {
+            case LIST_POSTS -> "/api/posts";
+            case LIST_POSTS_CURSOR -> "/api/posts/cursor";
+            case GET_POST -> "/api/posts/{postId}";
+            case GET_COMMENTS -> "/api/posts/{postId}/comments";
+            case CREATE_COMMENT -> "/api/comments/{postId}";
+            case TOGGLE_LIKE -> "/api/likes/{targetId}/posts";
+            case INBOX -> "/api/messages/inbox/cursor";
+            case SEND_MESSAGE -> "/api/messages/{receiverUsername}";
+        };
+    }
+
+    private String login(int userId) throws IOException, InterruptedException {
+        HttpRequest request = post("/api/users/login", null,
+                Map.of("email", DataSeeder.email(userId), "password", DataSeeder.PASSWORD));
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("로그인 실패: " + response.statusCode() + " " + response.body());
+        }
+        JsonNode body = objectMapper.readTree(response.body());
+        return body.get("accessToken").asText();
+    }
+
+    private HttpRequest get(String path, String token) {
+        return builder(path, token).GET().build();
+    }
+
+    private HttpRequest post(String path, String token, Object body) throws IOException {
+        HttpRequest.BodyPublisher publisher = body == null
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body));
+        return builder(path, token)
+                .header("Content-Type", "application/json")
+                .POST(publisher)
+                .build();
+    }
+
+    private HttpRequest.Builder builder(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(Duration.ofSeconds(30));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+}
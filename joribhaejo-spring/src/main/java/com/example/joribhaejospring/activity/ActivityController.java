@@ -0,0 +1,31 @@
+package com.example.joribhaejospring.activity;
+
+import com.example.joribhaejospring.activity.dto.ActivityResponse;
+import com.example.joribhaejospring.post.dto.CursorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/users")
+@RequiredArgsConstructor
+public class ActivityController {
+
+    private final ActivityService activityService;
+
+    @Operation(
+            summary = "사용자 활동 조회 (커서)",
+            description = "작성한 게시글·댓글과 누른 좋아요(본인만)를 최신순으로 조회, 이후 페이지는 응답의 nextCursor를 전달",
+            security = @SecurityRequirement(name = "Authorization")
+    )
+    @GetMapping("/{userId}/activity")
+    public ResponseEntity<CursorResponse<ActivityResponse>> getActivity(
+            @PathVariable Integer userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(activityService.getActivity(userId, cursor, size));
+    }
+}
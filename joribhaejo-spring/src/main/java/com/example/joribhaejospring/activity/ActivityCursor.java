@@ -0,0 +1,83 @@
+package com.example.joribhaejospring.activity;
+
+import com.example.joribhaejospring.activity.dto.ActivityResponse.ActivityType;
+import com.example.joribhaejospring.common.KeysetCursor;
+import com.example.joribhaejospring.common.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// 활동 종류(스트림)별 (created_at, id) 위치를 묶은 커서, 클라이언트에는 불투명한 문자열로 전달
+// 스트림 위치가 null이면 처음부터, exhausted면 더 읽을 것이 없어 조회를 생략
+class ActivityCursor {
+    private static final String STREAM_DELIMITER = "~";
+    private static final String DELIMITER = "_";
+    private static final String START = "-";
+    private static final String END = "x";
+
+    private final KeysetCursor[] positions = new KeysetCursor[ActivityType.values().length];
+    private final boolean[] exhausted = new boolean[ActivityType.values().length];
+
+    static ActivityCursor start() {
+        return new ActivityCursor();
+    }
+
+    KeysetCursor getPosition(ActivityType type) {
+        return positions[type.ordinal()];
+    }
+
+    boolean isExhausted(ActivityType type) {
+        return exhausted[type.ordinal()];
+    }
+
+    void setPosition(ActivityType type, KeysetCursor position) {
+        positions[type.ordinal()] = position;
+    }
+
+    void setExhausted(ActivityType type) {
+        exhausted[type.ordinal()] = true;
+    }
+
+    String encode() {
+        String[] parts = new String[positions.length];
+        for (int i = 0; i < parts.length; i++) {
+            if (exhausted[i]) {
+                parts[i] = END;
+            } else if (positions[i] == null) {
+                parts[i] = START;
+            } else {
+                parts[i] = positions[i].getCreatedAt() + DELIMITER + positions[i].getId();
+            }
+        }
+        String raw = String.join(STREAM_DELIMITER, parts);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static ActivityCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(STREAM_DELIMITER, -1);
+            if (parts.length != ActivityType.values().length) {
+                throw new IllegalArgumentException();
+            }
+
+            ActivityCursor decoded = new ActivityCursor();
+            for (int i = 0; i < parts.length; i++) {
+                if (parts[i].equals(END)) {
+                    decoded.exhausted[i] = true;
+                } else if (!parts[i].equals(START)) {
+                    int delimiter = parts[i].lastIndexOf(DELIMITER);
+                    decoded.positions[i] = new KeysetCursor(
+                            LocalDateTime.parse(parts[i].substring(0, delimiter)),
+                            Integer.parseInt(parts[i].substring(delimiter + 1))
+                    );
+                }
+            }
+            return decoded;
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new InvalidRequestException("잘못된 커서입니다.");
+        }
+    }
+}
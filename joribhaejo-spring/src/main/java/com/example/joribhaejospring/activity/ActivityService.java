@@ -0,0 +1,152 @@
+package com.example.joribhaejospring.activity;
+
+import com.example.joribhaejospring.activity.dto.ActivityResponse;
+import com.example.joribhaejospring.activity.dto.ActivityResponse.ActivityType;
+import com.example.joribhaejospring.comment.CommentRepository;
+import com.example.joribhaejospring.common.KeysetCursor;
+import com.example.joribhaejospring.common.PageLimits;
+import com.example.joribhaejospring.like.LikeRepository;
+import com.example.joribhaejospring.post.PostRepository;
+import com.example.joribhaejospring.post.dto.CursorResponse;
+import com.example.joribhaejospring.user.User;
+import com.example.joribhaejospring.user.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+// 사용자 활동 피드: 작성한 게시글·댓글, 누른 좋아요를 최신순으로 합쳐서 반환
+// 종류별로 (created_at, id) 인덱스를 타는 키셋 조회를 최대 size+1건씩 한 뒤 힙으로 k-way 병합
+// → 페이지 깊이와 무관하게 스트림당 인덱스 범위 한 번씩만 읽고, 다음 커서에는 스트림별 위치를 담음
+@Service
+@RequiredArgsConstructor
+public class ActivityService {
+    private static final int EXCERPT_LENGTH = 100;
+    // 같은 시각이면 종류 순서, 같은 종류면 id 내림차순 (스트림 내부 정렬과 일치해야 함)
+    private static final Comparator<ActivityResponse> NEWEST_FIRST =
+            Comparator.comparing(ActivityResponse::getCreatedAt).reversed()
+                    .thenComparing(ActivityResponse::getType)
+                    .thenComparing(ActivityResponse::getId, Comparator.reverseOrder());
+
+    private final UserRepository userRepository;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final LikeRepository likeRepository;
+
+    @Transactional(readOnly = true)
+    public CursorResponse<ActivityResponse> getActivity(Integer userId, String cursor, int size) {
+        PageLimits.checkSize(size);
+        if (!userRepository.existsById(userId)) {
+            throw new NoSuchElementException("사용자를 찾을 수 없습니다.");
+        }
+        ActivityCursor position = cursor == null ? ActivityCursor.start() : ActivityCursor.decode(cursor);
+        // 좋아요 내역은 본인에게만 공개
+        if (!userId.equals(getCurrentUserIdOrNull())) {
+            position.setExhausted(ActivityType.LIKE);
+        }
+
+        Pageable limit = PageRequest.of(0, size + 1);
+        Map<ActivityType, ActivityStream> streams = new EnumMap<>(ActivityType.class);
+        for (ActivityType type : ActivityType.values()) {
+            List<ActivityResponse> items = position.isExhausted(type)
+                    ? List.of()
+                    : read(type, userId, position.getPosition(type), limit);
+            streams.put(type, new ActivityStream(items, items.size() <= size));
+        }
+
+        PriorityQueue<ActivityStream> heads = new PriorityQueue<>(Comparator.comparing(ActivityStream::head, NEWEST_FIRST));
+        streams.values().stream().filter(ActivityStream::hasNext).forEach(heads::add);
+        List<ActivityResponse> page = new ArrayList<>(size);
+        while (page.size() < size && !heads.isEmpty()) {
+            ActivityStream stream = heads.poll();
+            page.add(stream.next());
+            if (stream.hasNext()) {
+                heads.add(stream);
+            }
+        }
+
+        // 덜 읽은 스트림은 항상 남은 항목을 들고 있으므로, 남은 항목이 없으면 모든 스트림이 끝난 것
+        if (streams.values().stream().noneMatch(ActivityStream::hasNext)) {
+            return CursorResponse.of(page, null);
+        }
+
+        // 스트림별로 이번 페이지에서 마지막으로 내보낸 항목 다음부터 이어서 읽음
+        ActivityCursor next = ActivityCursor.start();
+        streams.forEach((type, stream) -> {
+            if (position.isExhausted(type) || (stream.isComplete() && !stream.hasNext())) {
+                next.setExhausted(type);
+            } else if (stream.last() != null) {
+                next.setPosition(type, new KeysetCursor(stream.last().getCreatedAt(), stream.last().getId()));
+            } else {
+                next.setPosition(type, position.getPosition(type));
+            }
+        });
+        return CursorResponse.of(page, next.encode());
+    }
+
+    private List<ActivityResponse> read(ActivityType type, Integer userId, KeysetCursor after, Pageable limit) {
+        return switch (type) {
+            case POST -> (after == null
+                    ? postRepository.findAuthoredFirstSlice(userId, EXCERPT_LENGTH, limit)
+                    : postRepository.findAuthoredSliceAfter(userId, after.getCreatedAt(), after.getId(), EXCERPT_LENGTH, limit))
+                    .stream().map(ActivityResponse::ofPost).toList();
+            case COMMENT -> (after == null
+                    ? commentRepository.findAuthoredFirstSlice(userId, limit)
+                    : commentRepository.findAuthoredSliceAfter(userId, after.getCreatedAt(), after.getId(), limit))
+                    .stream().map((comment) -> ActivityResponse.ofComment(comment, EXCERPT_LENGTH)).toList();
+            case LIKE -> (after == null
+                    ? likeRepository.findGivenFirstSlice(userId, limit)
+                    : likeRepository.findGivenSliceAfter(userId, after.getCreatedAt(), after.getId(), limit))
+                    .stream().map(ActivityResponse::ofLike).toList();
+        };
+    }
+
+    private Integer getCurrentUserIdOrNull() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.getPrincipal() instanceof User user ? user.getId() : null;
+    }
+
+    // 한 종류의 조회 결과와 병합 중 읽은 위치
+    private static final class ActivityStream {
+        private final List<ActivityResponse> items;
+        // size+1건을 다 채우지 못했으면 DB에 더 남은 것이 없음
+        private final boolean complete;
+        private int consumed;
+
+        private ActivityStream(List<ActivityResponse> items, boolean complete) {
+            this.items = items;
+            this.complete = complete;
+        }
+
+        private boolean hasNext() {
+            return consumed < items.size();
+        }
+
+        private ActivityResponse head() {
+            return items.get(consumed);
+        }
+
+        private ActivityResponse next() {
+            return items.get(consumed++);
+        }
+
+        private ActivityResponse last() {
+            return consumed == 0 ? null : items.get(consumed - 1);
+        }
+
+        private boolean isComplete() {
+            return complete;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.joribhaejospring.activity.dto;
+
+import com.example.joribhaejospring.comment.Comment;
+import com.example.joribhaejospring.like.Like;
+import com.example.joribhaejospring.post.dto.PostSummaryResponse;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 활동 피드 항목 (type에 따라 채워지는 필드가 다름)
+@Getter
+@AllArgsConstructor
+@Builder
+public class ActivityResponse {
+    private ActivityType type;
+    // POST: 게시글 id, COMMENT: 댓글 id, LIKE: 좋아요 id
+    private Integer id;
+    private LocalDateTime createdAt;
+    // POST·COMMENT: 게시글 id
+    private Integer postId;
+    // POST만
+    private Integer boardId;
+    private String title;
+    // POST: 본문 앞부분, COMMENT: 댓글 앞부분
+    private String excerpt;
+    // LIKE만
+    private Like.TargetType targetType;
+    private Integer targetId;
+
+    public enum ActivityType {
+        POST, COMMENT, LIKE
+    }
+
+    public static ActivityResponse ofPost(PostSummaryResponse post) {
+        return ActivityResponse.builder()
+                .type(ActivityType.POST)
+                .id(post.getId())
+                .createdAt(post.getCreatedAt())
+                .postId(post.getId())
+                .boardId(post.getBoardId())
+                .title(post.getTitle())
+                .excerpt(post.getExcerpt())
+                .build();
+    }
+
+    // post는 지연 로딩 프록시지만 id 조회는 초기화 없이 가능
+    public static ActivityResponse ofComment(Comment comment, int excerptLength) {
+        String content = comment.getContent();
+        return ActivityResponse.builder()
+                .type(ActivityType.COMMENT)
+                .id(comment.getId())
+                .createdAt(comment.getCreatedAt())
+                .postId(comment.getPost().getId())
+                .excerpt(content.length() > excerptLength ? content.substring(0, excerptLength) : content)
+                .build();
+    }
+
+    public static ActivityResponse ofLike(Like like) {
+        return ActivityResponse.builder()
+                .type(ActivityType.LIKE)
+                .id(like.getId())
+                .createdAt(like.getCreatedAt())
+                .targetType(like.getTargetType())
+                .targetId(like.getTargetId())
+                .build();
+    }
+}
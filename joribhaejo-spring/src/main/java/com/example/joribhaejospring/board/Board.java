@@ -2,6 +2,8 @@ package com.example.joribhaejospring.board;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 
@@ -12,6 +14,8 @@ import java.time.LocalDateTime;
 @Builder
 @Entity
 @Table(name = "boards")
+// 게시글 작성마다 참조되고 거의 바뀌지 않으므로 2차 캐시에 보관
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "boards")
 public class Board {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
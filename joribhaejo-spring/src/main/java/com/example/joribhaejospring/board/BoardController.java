@@ -1,10 +1,18 @@
 package com.example.joribhaejospring.board;
 
+import com.example.joribhaejospring.board.dto.BoardCatalog;
+import com.example.joribhaejospring.board.dto.BoardPurgeJobResponse;
 import com.example.joribhaejospring.board.dto.BoardResponse;
+import com.example.joribhaejospring.common.HttpCaching;
+import com.example.joribhaejospring.post.Post;
+import com.example.joribhaejospring.post.PostService;
+import com.example.joribhaejospring.post.dto.PostSummaryResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -13,15 +21,42 @@ import java.util.List;
 @RequiredArgsConstructor
 public class BoardController {
     private final BoardService boardService;
+    private final BoardPurgeService boardPurgeService;
+    private final PostService postService;
 
     @Operation(
             summary = "게시판 목록 조회",
             description = ""
     )
     @GetMapping
-    public ResponseEntity<List<BoardResponse>> getAllBoards() {
-        List<BoardResponse> boards = boardService.getAllBoards();
-        return ResponseEntity.ok(boards);
+    public ResponseEntity<List<BoardResponse>> getAllBoards(WebRequest webRequest) {
+        BoardCatalog catalog = boardService.getBoardCatalog();
+
+        // If-None-Match가 일치하면 본문 없이 304
+        if (webRequest.checkNotModified(catalog.getEtag())) {
+            return HttpCaching.notModified(catalog.getEtag(), HttpCaching.boards());
+        }
+        return ResponseEntity.ok()
+                .eTag(catalog.getEtag())
+                .cacheControl(HttpCaching.boards())
+                .body(catalog.getBoards());
+    }
+
+    @Operation(
+            summary = "게시판 인기 게시글",
+            description = "최근 조회·좋아요·댓글에 시간 감쇠를 적용한 점수 순 (순위는 약 10초마다 갱신)"
+    )
+    @GetMapping("/{boardId}/trending")
+    public ResponseEntity<List<PostSummaryResponse>> getTrendingPosts(
+            @PathVariable Integer boardId,
+            @RequestParam(required = false) Post.PostCategory category,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "true") boolean excerpt
+    ) {
+        return ResponseEntity.ok()
+                .cacheControl(HttpCaching.trending())
+                .varyBy(HttpHeaders.AUTHORIZATION)
+                .body(postService.getTrendingPosts(boardId, category, size, excerpt));
     }
 
     @Operation(
@@ -53,13 +88,23 @@ public class BoardController {
 
     @Operation(
             summary = "게시판 삭제",
-            description = "테스트용"
+            description = "테스트용, 게시글·댓글·좋아요를 백그라운드에서 나눠 삭제하고 진행 상황을 반환 (202)"
     )
     @DeleteMapping("/{boardId}")
-    public ResponseEntity<String> deleteBoard(
+    public ResponseEntity<BoardPurgeJobResponse> deleteBoard(
+            @PathVariable Integer boardId
+    ) {
+        return ResponseEntity.accepted().body(boardPurgeService.startPurge(boardId));
+    }
+
+    @Operation(
+            summary = "게시판 삭제 진행 상황",
+            description = ""
+    )
+    @GetMapping("/{boardId}/purge")
+    public ResponseEntity<BoardPurgeJobResponse> getPurgeJob(
             @PathVariable Integer boardId
     ) {
-        boardService.deleteBoard(boardId);
-        return ResponseEntity.ok("게시판이 삭제되었습니다.");
+        return ResponseEntity.ok(boardPurgeService.getPurgeJob(boardId));
     }
 }
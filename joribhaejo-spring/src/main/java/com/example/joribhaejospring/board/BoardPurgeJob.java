@@ -0,0 +1,79 @@
+package com.example.joribhaejospring.board;
+
+import com.example.joribhaejospring.board.dto.BoardPurgeJobResponse;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 게시판 일괄 삭제 진행 상황 (삭제 스레드만 갱신하고 조회 요청은 스냅샷으로 읽음)
+class BoardPurgeJob {
+    enum Status {
+        RUNNING, COMPLETED, FAILED
+    }
+
+    private final Integer boardId;
+    private final long totalPosts;
+    private final LocalDateTime startedAt = LocalDateTime.now();
+    private final AtomicLong deletedPosts = new AtomicLong();
+    private final AtomicLong deletedComments = new AtomicLong();
+    private final AtomicLong deletedLikes = new AtomicLong();
+    private volatile Status status = Status.RUNNING;
+    private volatile LocalDateTime finishedAt;
+    private volatile String error;
+
+    BoardPurgeJob(Integer boardId, long totalPosts) {
+        this.boardId = boardId;
+        this.totalPosts = totalPosts;
+    }
+
+    boolean isRunning() {
+        return status == Status.RUNNING;
+    }
+
+    LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    void addPosts(long count) {
+        deletedPosts.addAndGet(count);
+    }
+
+    void addComments(long count) {
+        deletedComments.addAndGet(count);
+    }
+
+    void addLikes(long count) {
+        deletedLikes.addAndGet(count);
+    }
+
+    void complete() {
+        finishedAt = LocalDateTime.now();
+        status = Status.COMPLETED;
+    }
+
+    void fail(String message) {
+        error = message;
+        finishedAt = LocalDateTime.now();
+        status = Status.FAILED;
+    }
+
+    BoardPurgeJobResponse toResponse() {
+        return BoardPurgeJobResponse.builder()
+                .boardId(boardId)
+                .status(status.name())
+                .totalPosts(totalPosts)
+                .deletedPosts(deletedPosts.get())
+                .deletedComments(deletedComments.get())
+                .deletedLikes(deletedLikes.get())
+                .startedAt(startedAt)
+                .finishedAt(finishedAt)
+                .error(error)
+                .build();
+    }
+
+    @Override
+    public String toString() {
+        return "board=" + boardId + ", posts=" + deletedPosts + "/" + totalPosts
+                + ", comments=" + deletedComments + ", likes=" + deletedLikes;
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.joribhaejospring.board;
+
+import com.example.joribhaejospring.board.dto.BoardPurgeJobResponse;
+import com.example.joribhaejospring.comment.CommentRepository;
+import com.example.joribhaejospring.like.Like;
+import com.example.joribhaejospring.like.LikeRepository;
+import com.example.joribhaejospring.like.LikedSetCache;
+import com.example.joribhaejospring.post.PostRepository;
+import com.example.joribhaejospring.post.search.PostChangedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// 게시판 삭제: 게시글·댓글·좋아요를 청크 단위 짧은 트랜잭션으로 나눠 백그라운드에서 삭제
+// 게시판 행을 바로 지우면 FK CASCADE가 한 문장으로 수천 건을 지우며 오래 잠그고, 대상 FK가 없는 likes는 남음
+// 중간에 실패하거나 재시작되어도 다시 요청하면 남은 것부터 이어서 삭제됨
+@Slf4j
+@Service
+public class BoardPurgeService {
+    private final BoardService boardService;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final LikeRepository likeRepository;
+    private final LikedSetCache likedSetCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final Duration jobRetention;
+    // 동시에 하나의 게시판만 삭제해 DB 부하를 제한
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "board-purge");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final ConcurrentHashMap<Integer, BoardPurgeJob> jobs = new ConcurrentHashMap<>();
+
+    public BoardPurgeService(
+            BoardService boardService,
+            PostRepository postRepository,
+            CommentRepository commentRepository,
+            LikeRepository likeRepository,
+            LikedSetCache likedSetCache,
+            ApplicationEventPublisher eventPublisher,
+            TransactionTemplate transactionTemplate,
+            @Value("${board-purge.chunk-size:500}") int chunkSize,
+            @Value("${board-purge.job-retention:1h}") Duration jobRetention
+    ) {
+        this.boardService = boardService;
+        this.postRepository = postRepository;
+        this.commentRepository = commentRepository;
+        this.likeRepository = likeRepository;
+        this.likedSetCache = likedSetCache;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+        this.jobRetention = jobRetention;
+    }
+
+    // 이미 진행 중이면 기존 작업을 그대로 반환
+    public BoardPurgeJobResponse startPurge(Integer boardId) {
+        evictFinishedJobs();
+
+        BoardPurgeJob running = jobs.get(boardId);
+        if (running != null && running.isRunning()) {
+            return running.toResponse();
+        }
+
+        boardService.getBoard(boardId);
+        BoardPurgeJob job = new BoardPurgeJob(boardId, postRepository.countByBoardId(boardId));
+        BoardPurgeJob current = jobs.compute(boardId,
+                (id, existing) -> existing != null && existing.isRunning() ? existing : job);
+        if (current == job) {
+            executor.execute(() -> purge(boardId, job));
+        }
+        return current.toResponse();
+    }
+
+    public BoardPurgeJobResponse getPurgeJob(Integer boardId) {
+        BoardPurgeJob job = jobs.get(boardId);
+        if (job == null) {
+            throw new NoSuchElementException("게시판 삭제 작업을 찾을 수 없습니다.");
+        }
+        return job.toResponse();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void purge(Integer boardId, BoardPurgeJob job) {
+        try {
+            List<Integer> postIds;
+            while (!(postIds = postRepository.findIdsByBoardId(boardId, PageRequest.of(0, chunkSize))).isEmpty()) {
+                if (Thread.currentThread().isInterrupted()) {
+                    throw new IllegalStateException("애플리케이션 종료로 중단되었습니다.");
+                }
+                purgeComments(postIds, job);
+                purgePosts(postIds, job);
+            }
+
+            // 남은 게시판 행만 삭제 (마지막 청크 이후 작성된 게시글은 CASCADE, 그 좋아요는 LikeCountReconciler가 정리)
+            boardService.deleteBoard(boardId);
+            job.complete();
+            log.info("게시판 삭제 완료: {}", job);
+        } catch (RuntimeException e) {
+            job.fail(e.getMessage());
+            log.error("게시판 삭제 실패: {}", job, e);
+        } finally {
+            // 지워진 대상 id가 캐시된 좋아요 집합에 남지 않도록
+            likedSetCache.invalidateAll();
+        }
+    }
+
+    private void purgeComments(List<Integer> postIds, BoardPurgeJob job) {
+        boolean hasMore = true;
+        while (hasMore) {
+            hasMore = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                List<Integer> commentIds = commentRepository.findIdsByPostIdIn(postIds, PageRequest.of(0, chunkSize));
+                if (commentIds.isEmpty()) {
+                    return false;
+                }
+                job.addLikes(likeRepository.deleteByTargets(Like.TargetType.COMMENT.name(), commentIds));
+                job.addComments(commentRepository.deleteByIdIn(commentIds));
+                return true;
+            }));
+        }
+    }
+
+    private void purgePosts(List<Integer> postIds, BoardPurgeJob job) {
+        transactionTemplate.executeWithoutResult(status -> {
+            job.addLikes(likeRepository.deleteByTargets(Like.TargetType.POST.name(), postIds));
+            job.addPosts(postRepository.deleteByIdIn(postIds));
+            // 검색 색인·인기 순위에서는 커밋 후 제거
+            postIds.forEach(postId -> eventPublisher.publishEvent(PostChangedEvent.deleted(postId)));
+        });
+    }
+
+    private void evictFinishedJobs() {
+        LocalDateTime threshold = LocalDateTime.now().minus(jobRetention);
+        jobs.values().removeIf(job -> !job.isRunning() && job.getFinishedAt().isBefore(threshold));
+    }
+}
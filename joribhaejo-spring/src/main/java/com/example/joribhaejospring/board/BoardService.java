@@ -1,7 +1,12 @@
 package com.example.joribhaejospring.board;
 
+import com.example.joribhaejospring.board.dto.BoardCatalog;
 import com.example.joribhaejospring.board.dto.BoardResponse;
+import com.example.joribhaejospring.common.CacheConfig;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -13,6 +18,12 @@ import java.util.NoSuchElementException;
 public class BoardService {
     private final BoardRepository boardRepository;
 
+    @Cacheable(cacheNames = CacheConfig.BOARDS, key = "'all'")
+    @Transactional(readOnly = true)
+    public BoardCatalog getBoardCatalog() {
+        return BoardCatalog.of(getAllBoards());
+    }
+
     @Transactional(readOnly = true)
     public List<BoardResponse> getAllBoards() {
         return boardRepository.findAll().stream()
@@ -20,7 +31,17 @@ public class BoardService {
                 .toList();
     }
 
+    // 게시판 존재 확인용 조회 (캐시)
+    @Cacheable(cacheNames = CacheConfig.BOARD, key = "#boardId")
     @Transactional(readOnly = true)
+    public BoardResponse getBoard(Integer boardId) {
+        return boardRepository.findById(boardId)
+                .map(BoardResponse::fromEntity)
+                .orElseThrow(() -> new NoSuchElementException("게시판을 찾을 수 없습니다."));
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.BOARDS, allEntries = true)
+    @Transactional
     public BoardResponse createBoard(String name, String description) {
         return BoardResponse.fromEntity(
                 boardRepository.save(
@@ -32,6 +53,10 @@ public class BoardService {
         );
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.BOARDS, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.BOARD, key = "#boardId")
+    })
     @Transactional
     public BoardResponse updateBoard(Integer boardId, String name, String description) {
         Board board = boardRepository.findById(boardId)
@@ -44,6 +69,11 @@ public class BoardService {
         return BoardResponse.fromEntity(board);
     }
 
+    // 게시글은 BoardPurgeService가 먼저 나눠 지운 뒤 마지막에 호출
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.BOARDS, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.BOARD, key = "#boardId")
+    })
     @Transactional
     public void deleteBoard(Integer boardId) {
         Board board = boardRepository.findById(boardId)
@@ -0,0 +1,26 @@
+package com.example.joribhaejospring.board.dto;
+
+import com.example.joribhaejospring.common.HttpCaching;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 게시판 목록 + 목록 내용으로 계산한 ETag (캐시에 함께 저장)
+@Getter
+@AllArgsConstructor
+public class BoardCatalog {
+    private final List<BoardResponse> boards;
+    private final String etag;
+
+    public static BoardCatalog of(List<BoardResponse> boards) {
+        StringBuilder version = new StringBuilder();
+        for (BoardResponse board : boards) {
+            version.append(board.getId()).append('|')
+                    .append(board.getName()).append('|')
+                    .append(board.getDescription()).append('|')
+                    .append(board.getUpdatedAt()).append('\n');
+        }
+        return new BoardCatalog(boards, HttpCaching.weakEtag(version));
+    }
+}
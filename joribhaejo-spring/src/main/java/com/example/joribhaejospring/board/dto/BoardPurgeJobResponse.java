@@ -0,0 +1,24 @@
+package com.example.joribhaejospring.board.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 게시판 삭제 작업 진행 상황 (status: RUNNING, COMPLETED, FAILED)
+@Getter
+@AllArgsConstructor
+@Builder
+public class BoardPurgeJobResponse {
+    private Integer boardId;
+    private String status;
+    // 시작 시점 게시글 수 (삭제 중 추가된 게시글은 포함되지 않음)
+    private long totalPosts;
+    private long deletedPosts;
+    private long deletedComments;
+    private long deletedLikes;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String error;
+}
@@ -33,6 +33,10 @@ public class Comment {
     @JoinColumn(name = "parent_comment_id")
     private Comment parentComment;
 
+    // likes 테이블과 동기화되는 비정규화 카운터 (LikeService에서만 원자적으로 갱신)
+    @Column(name = "like_count", insertable = false, updatable = false)
+    private Integer likeCount;
+
     @Column(name = "created_at", insertable = false, updatable = false)
     private LocalDateTime createdAt;
 
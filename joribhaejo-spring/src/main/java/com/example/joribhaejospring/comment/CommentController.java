@@ -3,11 +3,15 @@ package com.example.joribhaejospring.comment;
 import com.example.joribhaejospring.comment.dto.CommentCreateRequest;
 import com.example.joribhaejospring.comment.dto.CommentResponse;
 import com.example.joribhaejospring.comment.dto.CommentUpdateRequest;
+import com.example.joribhaejospring.common.HttpCaching;
+import com.example.joribhaejospring.common.ratelimit.RateLimited;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -22,8 +26,19 @@ public class CommentController {
             description = ""
     )
     @GetMapping("/posts/{postId}/comments")
-    public ResponseEntity<List<CommentResponse>> getComments(@PathVariable Integer postId) {
-        return ResponseEntity.ok(commentService.getCommentsByPost(postId));
+    public ResponseEntity<List<CommentResponse>> getComments(@PathVariable Integer postId, WebRequest webRequest) {
+        String etag = commentService.getCommentsEtag(postId);
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return HttpCaching.notModified(etag, HttpCaching.revalidate(), HttpHeaders.AUTHORIZATION);
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .cacheControl(HttpCaching.revalidate())
+                .varyBy(HttpHeaders.AUTHORIZATION);
+        if (etag != null) {
+            response.eTag(etag);
+        }
+        return response.body(commentService.getCommentsByPost(postId));
     }
     
     @Operation(
@@ -32,6 +47,7 @@ public class CommentController {
             security = @SecurityRequirement(name = "Authorization")
     )
     @PostMapping("/comments/{postId}")
+    @RateLimited("comments")
     public ResponseEntity<String> createComment(
             @RequestBody CommentCreateRequest request,
             @PathVariable Integer postId
@@ -46,6 +62,7 @@ public class CommentController {
             security = @SecurityRequirement(name = "Authorization")
     )
     @PutMapping("/comments/{commentId}")
+    @RateLimited("comments")
     public ResponseEntity<String> updateComment(
             @PathVariable Integer commentId,
             @RequestBody CommentUpdateRequest request
@@ -0,0 +1,19 @@
+package com.example.joribhaejospring.comment;
+
+import com.example.joribhaejospring.post.Post;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 댓글 작성 커밋 후 인기 게시글 순위에 반영하기 위한 이벤트
+@Getter
+@AllArgsConstructor
+public class CommentCreatedEvent {
+    private final Integer postId;
+    private final Integer boardId;
+    private final Post.PostCategory category;
+
+    public static CommentCreatedEvent of(Post post) {
+        // board는 지연 로딩 프록시지만 id 조회는 초기화 없이 가능
+        return new CommentCreatedEvent(post.getId(), post.getBoard().getId(), post.getCategory());
+    }
+}
@@ -1,11 +1,75 @@
 package com.example.joribhaejospring.comment;
 
+import com.example.joribhaejospring.common.ContentVersion;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Integer> {
     List<Comment> findByPostId(Integer postId);
+
+    // 작성자를 함께 조회, id 순으로 정렬해 부모 댓글이 항상 자식보다 먼저 오도록 함
+    @Query("select c from Comment c join fetch c.author " +
+            "where c.post.id = :postId order by c.id")
+    List<Comment> findAllWithAuthorByPostId(@Param("postId") Integer postId);
+
+    // 활동 피드: 작성한 댓글 (idx_comments_author_created)
+    @Query("select c from Comment c where c.author.id = :authorId order by c.createdAt desc, c.id desc")
+    List<Comment> findAuthoredFirstSlice(@Param("authorId") Integer authorId, Pageable pageable);
+
+    @Query("select c from Comment c where c.author.id = :authorId " +
+            "and (c.createdAt < :createdAt or (c.createdAt = :createdAt and c.id < :id)) " +
+            "order by c.createdAt desc, c.id desc")
+    List<Comment> findAuthoredSliceAfter(@Param("authorId") Integer authorId,
+                                         @Param("createdAt") LocalDateTime createdAt,
+                                         @Param("id") Integer id,
+                                         Pageable pageable);
+
+    // 일괄 삭제용: 답글은 항상 부모보다 id가 크므로 큰 id부터 지우면 FK CASCADE로 딸려 지워지는 행이 없음
+    @Query("select c.id from Comment c where c.post.id in :postIds order by c.id desc")
+    List<Integer> findIdsByPostIdIn(@Param("postIds") Collection<Integer> postIds, Pageable pageable);
+
+    @Modifying
+    @Query("delete from Comment c where c.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<Integer> ids);
+
+    // 댓글 목록 ETag용 (idx_comments_post_updated만으로 계산)
+    @Query("select new com.example.joribhaejospring.common.ContentVersion(count(c), max(c.updatedAt), local datetime) " +
+            "from Comment c where c.post.id = :postId")
+    ContentVersion findVersionByPostId(@Param("postId") Integer postId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "comments"))
+    @Query(value = "UPDATE comments SET like_count = like_count + :delta WHERE id = :commentId", nativeQuery = true)
+    int addLikeCount(@Param("commentId") Integer commentId, @Param("delta") int delta);
+
+    @Query("select c.likeCount from Comment c where c.id = :commentId")
+    Optional<Integer> findLikeCount(@Param("commentId") Integer commentId);
+
+    @Query("select coalesce(max(c.id), 0) from Comment c")
+    Integer findMaxId();
+
+    // (fromId, toId] 구간에서 likes 테이블과 어긋난 like_count만 다시 계산
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "comments"))
+    @Query(value = "UPDATE comments c " +
+            "SET c.like_count = (SELECT COUNT(*) FROM likes l WHERE l.target_type = 'COMMENT' AND l.target_id = c.id) " +
+            "WHERE c.id > :fromId AND c.id <= :toId " +
+            "AND c.like_count <> (SELECT COUNT(*) FROM likes l WHERE l.target_type = 'COMMENT' AND l.target_id = c.id)",
+            nativeQuery = true)
+    int reconcileLikeCounts(@Param("fromId") int fromId, @Param("toId") int toId);
 }
@@ -3,35 +3,74 @@ package com.example.joribhaejospring.comment;
 import com.example.joribhaejospring.comment.dto.CommentCreateRequest;
 import com.example.joribhaejospring.comment.dto.CommentResponse;
 import com.example.joribhaejospring.comment.dto.CommentUpdateRequest;
+import com.example.joribhaejospring.common.ContentVersion;
+import com.example.joribhaejospring.common.HttpCaching;
 import com.example.joribhaejospring.like.Like;
-import com.example.joribhaejospring.like.LikeRepository;
+import com.example.joribhaejospring.like.LikeService;
 import com.example.joribhaejospring.post.Post;
 import com.example.joribhaejospring.post.PostRepository;
 import com.example.joribhaejospring.user.User;
 import lombok.RequiredArgsConstructor;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 
 @Service
 @RequiredArgsConstructor
 public class CommentService {
     private final CommentRepository commentRepository;
-    private final LikeRepository likeRepository;
     private final PostRepository postRepository;
+    private final LikeService likeService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public List<CommentResponse> getCommentsByPost(Integer postId) {
-        List<Comment> comments = commentRepository.findByPostId(postId);
+        List<Comment> comments = commentRepository.findAllWithAuthorByPostId(postId);
+        RoaringBitmap likedComments = likeService.findLikedSetOfCurrentUser(Like.TargetType.COMMENT).orElse(null);
+        return buildTree(comments, likedComments);
+    }
+
+    // 댓글 목록 ETag: 댓글 수와 마지막 수정 시각(좋아요 수 변경 포함), 로그인 사용자(likedByMe)로 계산
+    @Transactional(readOnly = true)
+    public String getCommentsEtag(Integer postId) {
+        ContentVersion version = commentRepository.findVersionByPostId(postId);
+        if (!version.isSettled()) {
+            return null;
+        }
+        return HttpCaching.weakEtag("comments", postId, getCurrentUserIdOrNull(),
+                version.getCount(), version.getLastUpdatedAt());
+    }
 
-        return comments.stream().map((comment) -> {
-            Integer likes = likeRepository.countByTargetTypeAndTargetId(Like.TargetType.COMMENT, comment.getId());
-            return CommentResponse.fromEntity(comment, likes);
-        }).toList();
+    // 댓글은 id 순으로 정렬되어 있으므로 부모가 항상 먼저 등록됨 → 한 번의 순회로 트리 구성
+    private List<CommentResponse> buildTree(List<Comment> comments, RoaringBitmap likedComments) {
+        Map<Integer, CommentResponse> responses = new HashMap<>();
+        List<CommentResponse> roots = new ArrayList<>();
+
+        for (Comment comment : comments) {
+            Boolean likedByMe = likedComments == null ? null : likedComments.contains(comment.getId());
+            CommentResponse response = CommentResponse.fromEntity(comment, comment.getLikeCount(), likedByMe);
+            responses.put(response.getId(), response);
+
+            CommentResponse parent = response.getParentCommentId() != null
+                    ? responses.get(response.getParentCommentId())
+                    : null;
+            if (parent != null) {
+                parent.getReplies().add(response);
+            } else {
+                roots.add(response);
+            }
+        }
+        return roots;
     }
 
     @Transactional
@@ -55,6 +94,7 @@ public class CommentService {
                 .build();
 
         commentRepository.save(comment);
+        eventPublisher.publishEvent(CommentCreatedEvent.of(post));
     }
 
     @Transactional
@@ -83,9 +123,15 @@ public class CommentService {
             throw new AccessDeniedException("Unauthorized");
         }
 
+        likeService.deleteLikesOfCommentTree(commentId);
         commentRepository.delete(comment);
     }
 
+    private Integer getCurrentUserIdOrNull() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.getPrincipal() instanceof User user ? user.getId() : null;
+    }
+
     private User getCurrentUser() {
         return (User) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
     }
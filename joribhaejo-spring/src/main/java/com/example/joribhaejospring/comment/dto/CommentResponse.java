@@ -12,6 +12,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 @Getter
@@ -28,8 +29,16 @@ public class CommentResponse {
     private Integer likeCount;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    // 로그인하지 않은 요청이면 null
+    private Boolean likedByMe;
+    @Builder.Default
+    private List<CommentResponse> replies = new ArrayList<>();
 
     public static CommentResponse fromEntity(Comment comment, Integer likeCount) {
+        return fromEntity(comment, likeCount, null);
+    }
+
+    public static CommentResponse fromEntity(Comment comment, Integer likeCount, Boolean likedByMe) {
         return CommentResponse.builder()
                 .id(comment.getId())
                 .postId(comment.getPost().getId())
@@ -40,6 +49,7 @@ public class CommentResponse {
                 .content(comment.getContent())
                 .createdAt(comment.getCreatedAt())
                 .updatedAt(comment.getUpdatedAt())
+                .likedByMe(likedByMe)
                 .build();
     }
 }
@@ -0,0 +1,44 @@
+package com.example.joribhaejospring.common;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+    public static final String BOARDS = "boards";
+    public static final String BOARD = "board";
+    public static final String USER_PRINCIPALS = "userPrincipals";
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${jwt.principal-cache.ttl:5m}") Duration principalTtl,
+            @Value("${jwt.principal-cache.max-size:10000}") long principalMaxSize
+    ) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.registerCustomCache(BOARDS, Caffeine.newBuilder()
+                .maximumSize(1)
+                .recordStats()
+                .build());
+        cacheManager.registerCustomCache(BOARD, Caffeine.newBuilder()
+                .maximumSize(1_000)
+                .recordStats()
+                .build());
+        cacheManager.registerCustomCache(USER_PRINCIPALS, Caffeine.newBuilder()
+                .maximumSize(principalMaxSize)
+                .expireAfterWrite(principalTtl)
+                .recordStats()
+                .build());
+
+        // 무효화를 트랜잭션 커밋 이후로 미뤄 커밋 전 데이터가 다시 캐시되지 않도록 함
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
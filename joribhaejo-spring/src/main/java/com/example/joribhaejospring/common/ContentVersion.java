@@ -0,0 +1,20 @@
+package com.example.joribhaejospring.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 목록 ETag 계산용 (행 수, 마지막 updated_at, DB 현재 시각), 리포지토리의 JPQL 생성자 표현식으로 직접 생성
+@Getter
+@AllArgsConstructor
+public class ContentVersion {
+    private Long count;
+    private LocalDateTime lastUpdatedAt;
+    private LocalDateTime now;
+
+    // updated_at은 초 단위(DATETIME)라 마지막 변경이 현재 초와 같으면 같은 초 안의 후속 변경을 구분할 수 없음
+    public boolean isSettled() {
+        return lastUpdatedAt == null || lastUpdatedAt.isBefore(now);
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.joribhaejospring.common;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+// 읽기 API의 ETag·Cache-Control 정책
+// ETag는 약한 검증자(W/)로 발급: 압축 여부에 따라 바이트가 달라지고, Tomcat은 강한 ETag가 붙은 응답은 압축하지 않음
+public final class HttpCaching {
+    private HttpCaching() {
+    }
+
+    public static String weakEtag(Object... parts) {
+        String version = Arrays.stream(parts)
+                .map(String::valueOf)
+                .collect(Collectors.joining("|"));
+        return "W/\"" + DigestUtils.md5DigestAsHex(version.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    // 게시판 목록: 거의 바뀌지 않으므로 1분간은 재검증 없이 사용
+    public static CacheControl boards() {
+        return CacheControl.maxAge(Duration.ofMinutes(1)).cachePublic();
+    }
+
+    // 게시글·댓글 목록: 매번 ETag로 재검증, 로그인 사용자별 likedByMe가 있으므로 공유 캐시에는 저장하지 않음
+    public static CacheControl revalidate() {
+        return CacheControl.noCache().cachePrivate();
+    }
+
+    // 인기 게시글: 순위 스냅샷 주기 동안은 그대로 사용
+    public static CacheControl trending() {
+        return CacheControl.maxAge(Duration.ofSeconds(10)).cachePrivate();
+    }
+
+    // 게시글 상세: 요청마다 조회수가 올라가므로 저장하지 않음
+    public static CacheControl noStore() {
+        return CacheControl.noStore();
+    }
+
+    // 200 응답과 같은 ETag·Cache-Control·Vary로 본문 없이 304
+    public static <T> ResponseEntity<T> notModified(String etag, CacheControl cacheControl, String... varyBy) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag)
+                .cacheControl(cacheControl)
+                .varyBy(varyBy)
+                .build();
+    }
+}
@@ -1,53 +1,73 @@
 package com.example.joribhaejospring.common;
 
 import com.example.joribhaejospring.user.User;
-import com.example.joribhaejospring.user.UserRepository;
+import com.example.joribhaejospring.user.token.RevokedTokenFamilies;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
 @Component
 @Slf4j
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtUtil jwtUtil;
-    private final UserRepository userRepository;
+    private final UserDetailsServiceImpl userDetailsService;
+    private final RevokedTokenFamilies revokedTokenFamilies;
+    private final MeterRegistry meterRegistry;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
-        // JWT 파싱
+        long startedAt = System.nanoTime();
+
+        // JWT 파싱 (검증 + 클레임 추출 한 번에)
         String token = resolveToken(request);
+        Claims claims = (token == null) ? null : jwtUtil.parseClaims(token);
 
         // 헤더 포함 안된 요청의 경우 Request를 다음 필터로 넘김
-        if (token == null || !jwtUtil.validateToken(token)) {
+        if (claims == null) {
+            record(token == null ? "anonymous" : "invalid", startedAt);
             filterChain.doFilter(request, response);
             return;
         }
 
-        // 토큰으로부터 사용자 ID 파싱
-        Integer id = jwtUtil.getIdFromToken(token);
+        // 리프레시 토큰·스트림 티켓으로는 인증 불가, 폐기된 family의 토큰은 메모리 집합으로 확인 (DB 조회 없음)
+        if (!jwtUtil.isAccessToken(claims) || revokedTokenFamilies.isRevoked(jwtUtil.getFamilyId(claims))) {
+            record("revoked", startedAt);
+            filterChain.doFilter(request, response);
+            return;
+        }
 
-        User member = userRepository.findById(id)
-                .orElseThrow(() -> new BadCredentialsException("유효하지 않은 토큰입니다.")); //401
+        // 토큰으로부터 사용자 ID 파싱, 사용자는 캐시에서 조회
+        Integer id = Integer.parseInt(claims.getSubject());
+        User member = userDetailsService.loadUserById(id); //401
 
         //Security Context에 사용자 UUID 저장
         UsernamePasswordAuthenticationToken authToken =
                 new UsernamePasswordAuthenticationToken(member, null, member.getAuthorities());
         SecurityContextHolder.getContext().setAuthentication(authToken);
+        record("authenticated", startedAt);
 
         filterChain.doFilter(request, response);
     }
 
+    // 필터 자체 처리 시간 (다음 필터 실행 시간 제외)
+    private void record(String outcome, long startedAt) {
+        meterRegistry.timer("jwt.filter", "outcome", outcome)
+                .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+
     private String resolveToken(HttpServletRequest request) {
         String bearer = request.getHeader("Authorization");
         if (bearer != null && bearer.startsWith("Bearer ")) {
@@ -2,12 +2,14 @@ package com.example.joribhaejospring.common;
 
 import com.example.joribhaejospring.user.User;
 import io.jsonwebtoken.*;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Component;
 
+import javax.crypto.SecretKey;
 import java.util.Date;
 import java.util.stream.Collectors;
 
@@ -15,10 +17,33 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 @Slf4j
 public class JwtUtil {
+    // 토큰 종류, 로그인 한 번에서 이어지는 토큰 묶음(family) 클레임
+    private static final String TOKEN_TYPE = "typ";
+    private static final String REFRESH = "refresh";
+    private static final String STREAM_TICKET = "stream";
+    private static final String FAMILY = "fam";
+
     private final JwtProperties jwtProperties;
 
+    // 키와 파서는 스레드 안전하므로 한 번만 생성해 재사용
+    private SecretKey secretKey;
+    private JwtParser jwtParser;
+
+    @PostConstruct
+    void init() {
+        secretKey = jwtProperties.getSecretKey();
+        jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+    }
+
     // Access 토큰 생성
     public String generateAccessToken(Authentication auth) {
+        return generateAccessToken(auth, null);
+    }
+
+    // familyId: 함께 발급된 리프레시 토큰의 family, 폐기되면 이 토큰도 만료 전에 거절됨
+    public String generateAccessToken(Authentication auth, String familyId) {
         User user = (User) auth.getPrincipal();
 
         String authorities = auth.getAuthorities().stream()
@@ -28,19 +53,59 @@ public class JwtUtil {
         return Jwts.builder()
                 .subject(user.getId().toString())
                 .claim("auth", authorities)
+                .claim(FAMILY, familyId)
                 .issuedAt(new Date())
                 .expiration(new Date(System.currentTimeMillis() + jwtProperties.getAccessExp()))
-                .signWith(jwtProperties.getSecretKey())
+                .signWith(secretKey)
                 .compact();
     }
 
-    public boolean validateToken(String token) {
+    // Refresh 토큰 생성: 인증에는 쓸 수 없고 회전(/api/users/refresh)에만 사용, tokenId는 refresh_tokens.token_id
+    public String generateRefreshToken(Integer userId, String tokenId, String familyId, Date expiresAt) {
+        return Jwts.builder()
+                .subject(userId.toString())
+                .id(tokenId)
+                .claim(TOKEN_TYPE, REFRESH)
+                .claim(FAMILY, familyId)
+                .issuedAt(new Date())
+                .expiration(expiresAt)
+                .signWith(secretKey)
+                .compact();
+    }
+
+    // 쪽지 SSE 연결용 일회용 티켓: 서명만으로 검증되므로 발급한 인스턴스가 아니어도 받을 수 있음
+    public String generateStreamTicket(Integer userId, String ticketId, Date expiresAt) {
+        return Jwts.builder()
+                .subject(userId.toString())
+                .id(ticketId)
+                .claim(TOKEN_TYPE, STREAM_TICKET)
+                .issuedAt(new Date())
+                .expiration(expiresAt)
+                .signWith(secretKey)
+                .compact();
+    }
+
+    public boolean isRefreshToken(Claims claims) {
+        return REFRESH.equals(claims.get(TOKEN_TYPE, String.class));
+    }
+
+    public boolean isStreamTicket(Claims claims) {
+        return STREAM_TICKET.equals(claims.get(TOKEN_TYPE, String.class));
+    }
+
+    // access 토큰에는 종류 클레임이 없음 (리프레시 토큰·스트림 티켓으로는 인증 불가)
+    public boolean isAccessToken(Claims claims) {
+        return claims.get(TOKEN_TYPE) == null;
+    }
+
+    public String getFamilyId(Claims claims) {
+        return claims.get(FAMILY, String.class);
+    }
+
+    // 서명·만료 검증과 클레임 추출을 한 번의 파싱으로 처리, 유효하지 않으면 null
+    public Claims parseClaims(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(jwtProperties.getSecretKey())
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
+            return jwtParser.parseSignedClaims(token).getPayload();
         } catch (SecurityException | MalformedJwtException e) {
             log.warn("잘못된 JWT 서명입니다: {}", e.getMessage());
         } catch (ExpiredJwtException e) {
@@ -52,17 +117,16 @@ public class JwtUtil {
         } catch (Exception e) {
             Date date = new Date();
             log.error("Invalid JWT token inspected : {} {}", e.getMessage(), date);
-            return false;
         }
-        return false;
+        return null;
+    }
+
+    public boolean validateToken(String token) {
+        return parseClaims(token) != null;
     }
 
     public Integer getIdFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(jwtProperties.getSecretKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        Claims claims = jwtParser.parseSignedClaims(token).getPayload();
         return Integer.parseInt(claims.getSubject());
     }
 }
@@ -0,0 +1,38 @@
+package com.example.joribhaejospring.common;
+
+import com.example.joribhaejospring.common.exception.InvalidRequestException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// (created_at, id) 기준 키셋 페이지네이션 커서, 클라이언트에는 불투명한 문자열로 전달
+@Getter
+@AllArgsConstructor
+public class KeysetCursor {
+    private static final String DELIMITER = "_";
+
+    private final LocalDateTime createdAt;
+    private final Integer id;
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiter = raw.lastIndexOf(DELIMITER);
+            return new KeysetCursor(
+                    LocalDateTime.parse(raw.substring(0, delimiter)),
+                    Integer.parseInt(raw.substring(delimiter + 1))
+            );
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new InvalidRequestException("잘못된 커서입니다.");
+        }
+    }
+}
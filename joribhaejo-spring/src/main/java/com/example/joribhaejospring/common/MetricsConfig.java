@@ -0,0 +1,80 @@
+package com.example.joribhaejospring.common;
+
+import com.example.joribhaejospring.common.ratelimit.RateLimitInterceptor;
+import com.example.joribhaejospring.message.MessageStreamRegistry;
+import com.example.joribhaejospring.post.ViewCountBuffer;
+import com.example.joribhaejospring.post.search.PostSearchIndex;
+import com.example.joribhaejospring.post.trending.TrendingPostRanker;
+import com.example.joribhaejospring.user.PasswordHasher;
+import com.example.joribhaejospring.user.token.RevokedTokenFamilies;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// HTTP·리포지토리·Hibernate·Hikari·캐시 메트릭은 스프링 부트가 자동 등록, 여기서는 앱 내부 상태만 추가
+@Configuration
+public class MetricsConfig {
+    @Bean
+    public MeterBinder viewCountBufferMetrics(ViewCountBuffer viewCountBuffer) {
+        return registry -> Gauge.builder("view_count.pending.posts", viewCountBuffer, ViewCountBuffer::getPendingPostCount)
+                .description("DB에 아직 반영되지 않은 조회수를 가진 게시글 수")
+                .register(registry);
+    }
+
+    @Bean
+    public MeterBinder messageStreamMetrics(MessageStreamRegistry messageStreamRegistry) {
+        return registry -> Gauge.builder("message_stream.connections", messageStreamRegistry, MessageStreamRegistry::getConnectionCount)
+                .description("열려 있는 쪽지 SSE 연결 수")
+                .register(registry);
+    }
+
+    @Bean
+    public MeterBinder postSearchIndexMetrics(PostSearchIndex postSearchIndex) {
+        return registry -> {
+            Gauge.builder("search.index.posts", postSearchIndex, PostSearchIndex::size)
+                    .description("검색 색인에 올라간 게시글 수")
+                    .register(registry);
+            Gauge.builder("search.index.ready", postSearchIndex, index -> index.isReady() ? 1 : 0)
+                    .description("색인 사용 가능 여부 (0이면 LIKE 검색)")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder passwordHasherMetrics(PasswordHasher passwordHasher) {
+        return registry -> {
+            Gauge.builder("password_hashing.active", passwordHasher, PasswordHasher::getActiveCount)
+                    .description("해시·검증 중인 작업 수")
+                    .register(registry);
+            Gauge.builder("password_hashing.queued", passwordHasher, PasswordHasher::getQueuedCount)
+                    .description("대기열에 있는 해시·검증 작업 수")
+                    .register(registry);
+            FunctionCounter.builder("password_hashing.rejected", passwordHasher, PasswordHasher::getRejectedCount)
+                    .description("대기열이 가득 차 503으로 거절한 요청 수")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder rateLimitMetrics(RateLimitInterceptor rateLimitInterceptor) {
+        return registry -> Gauge.builder("rate_limit.buckets", rateLimitInterceptor, RateLimitInterceptor::getBucketCount)
+                .description("속도 제한 중인 (그룹, 사용자·IP) 키 수")
+                .register(registry);
+    }
+
+    @Bean
+    public MeterBinder revokedTokenFamiliesMetrics(RevokedTokenFamilies revokedTokenFamilies) {
+        return registry -> Gauge.builder("refresh_token.revoked_families", revokedTokenFamilies, RevokedTokenFamilies::size)
+                .description("메모리에 올라간 폐기된 토큰 family 수")
+                .register(registry);
+    }
+
+    @Bean
+    public MeterBinder trendingPostRankerMetrics(TrendingPostRanker trendingPostRanker) {
+        return registry -> Gauge.builder("trending.posts.tracked", trendingPostRanker, TrendingPostRanker::size)
+                .description("인기 순위 계산 대상 게시글 수")
+                .register(registry);
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.joribhaejospring.common;
+
+import com.example.joribhaejospring.common.exception.InvalidRequestException;
+
+// 목록 API의 page·size 범위 검증
+// size가 0이면 빈 결과에서 다음 커서를 만들다 실패하고, 상한이 없으면 한 번에 전체를 읽거나 size + 1이 넘침
+public final class PageLimits {
+    public static final int MAX_SIZE = 100;
+
+    private PageLimits() {
+    }
+
+    public static int checkSize(int size) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new InvalidRequestException("size는 1 이상 " + MAX_SIZE + " 이하여야 합니다.");
+        }
+        return size;
+    }
+
+    public static int checkPage(int page) {
+        if (page < 0) {
+            throw new InvalidRequestException("page는 0 이상이어야 합니다.");
+        }
+        return page;
+    }
+}
@@ -1,8 +1,11 @@
 package com.example.joribhaejospring.common;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
@@ -13,6 +16,7 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
@@ -28,23 +32,36 @@ public class SecurityConfig {
 
     // 모든 요청 허용
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(
+            HttpSecurity http,
+            @Value("${management.server.port:-1}") int managementPort
+    ) throws Exception {
         http
                 .cors(Customizer.withDefaults()) // CORS 설정 적용
                 .csrf(AbstractHttpConfigurer::disable)
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(authorize -> authorize
-                                .requestMatchers("/api/users/login", "/api/users/signup").permitAll()
+                                // SSE 등 비동기 디스패치는 최초 요청에서 이미 인증됨 (JWT 필터는 비동기 디스패치에서 다시 돌지 않음)
+                                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                                .requestMatchers("/api/users/login", "/api/users/signup", "/api/users/refresh").permitAll()
+                                // 쪽지 스트림은 토큰 대신 일회용 티켓으로 MessageService에서 인증
+                                .requestMatchers("/api/messages/stream").permitAll()
                                 .requestMatchers("/error", "/swagger-ui/**", "/v3/api-docs/**").permitAll()
                                 .requestMatchers("/api/posts/*", "/api/posts", "/api/posts/*/comments").permitAll()
                                 .requestMatchers("/api/likes", "/api/boards", "/api/boards/**").permitAll()
                                 .requestMatchers("/", "/login", "/signup", "/index.html").permitAll()
                                 .requestMatchers("/_next/**", "/favicon.ico").permitAll()
+                                // 서비스 포트에는 프로브만 공개, 지표(prometheus 등)는 외부에 열지 않는 관리 포트로만 수집
+                                .requestMatchers("/livez", "/readyz").permitAll()
+                                .requestMatchers((request) -> request.getLocalPort() == managementPort).permitAll()
                                 .anyRequest().authenticated() // 그 외 모든 요청은 인증 필요
 
                         //.anyRequest().permitAll() // 모든 요청 허용
                 )
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class) // JWT 필터 추가
+                // 토큰이 없거나 만료되면 403이 아닌 401 (클라이언트가 401을 받으면 리프레시 토큰으로 재발급)
+                .exceptionHandling(exception -> exception
+                        .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)))
                 .formLogin(AbstractHttpConfigurer::disable)   // 기본 폼 로그인 비활성화
                 .httpBasic(AbstractHttpConfigurer::disable);
         return http.build();
@@ -63,10 +80,10 @@ public class SecurityConfig {
         return source;
     }
 
-    // 비밀번호 인코더 등록
+    // 비밀번호 인코더 등록 (강도를 바꿔도 기존 해시는 자신의 강도로 검증됨, PasswordHashingBenchmark 참고)
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${password-hashing.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 
     @Bean
@@ -1,7 +1,10 @@
 package com.example.joribhaejospring.common;
 
+import com.example.joribhaejospring.user.User;
 import com.example.joribhaejospring.user.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -17,4 +20,11 @@ public class UserDetailsServiceImpl implements UserDetailsService {
         return userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("해당 사용자를 찾을 수 없습니다."));
     }
-}
\ No newline at end of file
+
+    // JWT 인증 필터에서 매 요청마다 호출, 변경 시 UserCacheEvictionListener가 무효화
+    @Cacheable(cacheNames = CacheConfig.USER_PRINCIPALS, key = "#id")
+    public User loadUserById(Integer id) {
+        return userRepository.findById(id)
+                .orElseThrow(() -> new BadCredentialsException("유효하지 않은 토큰입니다."));
+    }
+}
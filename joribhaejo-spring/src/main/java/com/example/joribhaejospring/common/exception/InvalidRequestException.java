@@ -0,0 +1,12 @@
+package com.example.joribhaejospring.common.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// 잘못된 커서·범위를 벗어난 size 등 클라이언트 입력 오류 (IllegalArgumentException은 서버 오류로 남겨 둠)
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidRequestException extends RuntimeException {
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+}
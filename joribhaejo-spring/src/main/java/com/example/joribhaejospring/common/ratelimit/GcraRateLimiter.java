@@ -0,0 +1,52 @@
+package com.example.joribhaejospring.common.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 엔드포인트 그룹 하나의 키(사용자·IP)별 속도 제한
+// GCRA: 토큰 수·갱신 시각 대신 "이론상 다음 요청 시각(TAT)" 하나만 AtomicLong에 두고 CAS로 갱신 → 잠금 없음
+// 결과는 토큰 버킷과 같음 (period당 limit개, 최대 burst개 연속 허용)
+class GcraRateLimiter {
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    // ConcurrentHashMap이 내부적으로 구간별로 나눠 잠그므로 키가 다르면 서로 경합하지 않음
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+    GcraRateLimiter(int limit, Duration period, int burst) {
+        if (limit <= 0 || burst <= 0) {
+            throw new IllegalArgumentException("limit과 burst는 1 이상이어야 합니다.");
+        }
+        this.emissionIntervalNanos = period.toNanos() / limit;
+        this.burstToleranceNanos = emissionIntervalNanos * (burst - 1);
+    }
+
+    // 허용되면 0, 거절되면 다시 시도할 수 있을 때까지 남은 나노초 (now는 System.nanoTime 기준)
+    long tryAcquire(String key, long now) {
+        AtomicLong tat = buckets.get(key);
+        if (tat == null) {
+            tat = buckets.computeIfAbsent(key, (k) -> new AtomicLong(now));
+        }
+        while (true) {
+            long current = tat.get();
+            long ahead = current - now;
+            if (ahead > burstToleranceNanos) {
+                return ahead - burstToleranceNanos;
+            }
+            long next = (ahead > 0 ? current : now) + emissionIntervalNanos;
+            if (tat.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    // TAT가 지난 키는 버킷이 가득 찬 상태라 없는 것과 같으므로 제거해 메모리를 제한
+    // (제거 직전에 읽어 간 요청의 갱신 하나는 유실될 수 있음, 그만큼 한 번 더 허용될 뿐)
+    void evictIdle(long now) {
+        buckets.values().removeIf((tat) -> tat.get() - now <= 0);
+    }
+
+    int size() {
+        return buckets.size();
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.joribhaejospring.common.ratelimit;
+
+import com.example.joribhaejospring.common.exception.RateLimitExceededException;
+import com.example.joribhaejospring.user.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// @RateLimited가 붙은 요청만 그룹별로 제한, 키는 로그인 사용자면 id, 아니면 클라이언트 IP
+// 보안 필터 체인 이후에 실행되므로 JwtAuthenticationFilter가 넣은 사용자를 그대로 사용
+@Component
+public class RateLimitInterceptor implements HandlerInterceptor {
+    private final Map<String, GcraRateLimiter> limiters;
+    private final MeterRegistry meterRegistry;
+
+    public RateLimitInterceptor(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.limiters = properties.groups().entrySet().stream()
+                .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, (entry) -> new GcraRateLimiter(
+                        entry.getValue().limit(), entry.getValue().period(), entry.getValue().burst())));
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod method)) {
+            return true;
+        }
+        RateLimited rateLimited = method.getMethodAnnotation(RateLimited.class);
+        GcraRateLimiter limiter = rateLimited == null ? null : limiters.get(rateLimited.value());
+        if (limiter == null) {
+            return true;
+        }
+
+        long waitNanos = limiter.tryAcquire(resolveKey(request), System.nanoTime());
+        if (waitNanos > 0) {
+            meterRegistry.counter("rate_limit.rejected", "group", rateLimited.value()).increment();
+            // Retry-After는 초 단위이므로 올림
+            throw new RateLimitExceededException(TimeUnit.NANOSECONDS.toSeconds(waitNanos - 1) + 1);
+        }
+        return true;
+    }
+
+    @Scheduled(fixedDelayString = "${rate-limit.sweep-interval:60000}")
+    public void evictIdle() {
+        long now = System.nanoTime();
+        limiters.values().forEach((limiter) -> limiter.evictIdle(now));
+    }
+
+    // 메트릭용
+    public int getBucketCount() {
+        return limiters.values().stream().mapToInt(GcraRateLimiter::size).sum();
+    }
+
+    private static String resolveKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof User user) {
+            return "user:" + user.getId();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.joribhaejospring.common.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+// rate-limit.groups.<그룹> 아래 그룹별 설정, 설정이 없는 그룹은 제한하지 않음
+@ConfigurationProperties("rate-limit")
+public record RateLimitProperties(@DefaultValue("true") boolean enabled, Map<String, Group> groups) {
+    public RateLimitProperties {
+        groups = !enabled || groups == null ? Map.of() : Map.copyOf(groups);
+    }
+
+    // period마다 limit개, 쉬었다가 몰아서 보내면 최대 burst개까지 연속 허용
+    public record Group(int limit, Duration period, int burst) {
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.joribhaejospring.like;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 좋아요 설정/해제 커밋 후 사용자별 좋아요 집합 캐시에 반영하기 위한 이벤트
+@Getter
+@AllArgsConstructor
+public class LikeChangedEvent {
+    private final Integer userId;
+    private final Like.TargetType targetType;
+    private final Integer targetId;
+    private final boolean liked;
+}
@@ -1,5 +1,7 @@
 package com.example.joribhaejospring.like;
 
+import com.example.joribhaejospring.common.ratelimit.RateLimited;
+import com.example.joribhaejospring.like.dto.LikeStateResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import lombok.RequiredArgsConstructor;
@@ -23,17 +25,63 @@ public class LikeController {
         return ResponseEntity.ok(likeService.getLikedIds(Like.TargetType.POST));
     }
 
+    @Operation(
+            summary = "주어진 게시글 중 좋아요 누른 ID 조회",
+            description = "목록 한 페이지의 id를 ids=1,2,3 형태로 전달",
+            security = @SecurityRequirement(name = "Authorization")
+    )
+    @GetMapping("/users/me/liked-posts")
+    public ResponseEntity<List<Integer>> getLikedPostIdsAmong(@RequestParam List<Integer> ids) {
+        return ResponseEntity.ok(likeService.getLikedIdsAmong(Like.TargetType.POST, ids));
+    }
+
+    @Operation(
+            summary = "주어진 댓글 중 좋아요 누른 ID 조회",
+            description = "ids=1,2,3 형태로 전달",
+            security = @SecurityRequirement(name = "Authorization")
+    )
+    @GetMapping("/users/me/liked-comments")
+    public ResponseEntity<List<Integer>> getLikedCommentIdsAmong(@RequestParam List<Integer> ids) {
+        return ResponseEntity.ok(likeService.getLikedIdsAmong(Like.TargetType.COMMENT, ids));
+    }
+
     @Operation(
             summary = "게시글 좋아요 토글",
             description = "",
             security = @SecurityRequirement(name = "Authorization")
     )
     @PostMapping("/likes/{targetId}/posts")
-    public ResponseEntity<String> togglePostLike(
+    @RateLimited("likes")
+    public ResponseEntity<LikeStateResponse> togglePostLike(
+            @PathVariable Integer targetId
+    ) {
+        return ResponseEntity.ok(likeService.toggleLike(Like.TargetType.POST, targetId));
+    }
+
+    @Operation(
+            summary = "게시글 좋아요",
+            description = "이미 누른 상태면 변화 없음 (여러 번 호출해도 같은 결과)",
+            security = @SecurityRequirement(name = "Authorization")
+    )
+    @PutMapping("/likes/{targetId}/posts")
+    @RateLimited("likes")
+    public ResponseEntity<LikeStateResponse> likePost(
+            @PathVariable Integer targetId
+    ) {
+        return ResponseEntity.ok(likeService.like(Like.TargetType.POST, targetId));
+    }
+
+    @Operation(
+            summary = "게시글 좋아요 취소",
+            description = "누르지 않은 상태면 변화 없음 (여러 번 호출해도 같은 결과)",
+            security = @SecurityRequirement(name = "Authorization")
+    )
+    @DeleteMapping("/likes/{targetId}/posts")
+    @RateLimited("likes")
+    public ResponseEntity<LikeStateResponse> unlikePost(
             @PathVariable Integer targetId
     ) {
-        likeService.toggleLike(Like.TargetType.POST, targetId);
-        return ResponseEntity.ok("좋아요 토글");
+        return ResponseEntity.ok(likeService.unlike(Like.TargetType.POST, targetId));
     }
 
     @Operation(
@@ -42,10 +90,36 @@ public class LikeController {
             security = @SecurityRequirement(name = "Authorization")
     )
     @PostMapping("/likes/{targetId}/comments")
-    public ResponseEntity<String> toggleCommentLike(
+    @RateLimited("likes")
+    public ResponseEntity<LikeStateResponse> toggleCommentLike(
+            @PathVariable Integer targetId
+    ) {
+        return ResponseEntity.ok(likeService.toggleLike(Like.TargetType.COMMENT, targetId));
+    }
+
+    @Operation(
+            summary = "댓글 좋아요",
+            description = "이미 누른 상태면 변화 없음 (여러 번 호출해도 같은 결과)",
+            security = @SecurityRequirement(name = "Authorization")
+    )
+    @PutMapping("/likes/{targetId}/comments")
+    @RateLimited("likes")
+    public ResponseEntity<LikeStateResponse> likeComment(
+            @PathVariable Integer targetId
+    ) {
+        return ResponseEntity.ok(likeService.like(Like.TargetType.COMMENT, targetId));
+    }
+
+    @Operation(
+            summary = "댓글 좋아요 취소",
+            description = "누르지 않은 상태면 변화 없음 (여러 번 호출해도 같은 결과)",
+            security = @SecurityRequirement(name = "Authorization")
+    )
+    @DeleteMapping("/likes/{targetId}/comments")
+    @RateLimited("likes")
+    public ResponseEntity<LikeStateResponse> unlikeComment(
             @PathVariable Integer targetId
     ) {
-        likeService.toggleLike(Like.TargetType.COMMENT, targetId);
-        return ResponseEntity.ok("좋아요 토글");
+        return ResponseEntity.ok(likeService.unlike(Like.TargetType.COMMENT, targetId));
     }
 }
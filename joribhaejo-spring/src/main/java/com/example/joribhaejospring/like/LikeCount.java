@@ -0,0 +1,7 @@
+package com.example.joribhaejospring.like;
+
+public interface LikeCount {
+    Integer getTargetId();
+
+    Long getLikeCount();
+}
@@ -0,0 +1,43 @@
+package com.example.joribhaejospring.like;
+
+import com.example.joribhaejospring.comment.CommentRepository;
+import com.example.joribhaejospring.post.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.function.IntBinaryOperator;
+
+// 대상이 없는 likes 행을 지우고, posts/comments.like_count가 likes 테이블과 어긋난 경우 id 구간 단위로 다시 계산
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikeCountReconciler {
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final LikeRepository likeRepository;
+
+    @Value("${like-count.reconcile-chunk-size:1000}")
+    private int chunkSize;
+
+    @Scheduled(cron = "${like-count.reconcile-cron:0 0 4 * * *}")
+    public void reconcile() {
+        // 삭제 중 동시에 달린 댓글 등 CASCADE로 대상만 지워진 좋아요를 먼저 정리
+        int orphans = reconcile(likeRepository.findMaxId(), likeRepository::deleteOrphans);
+        int posts = reconcile(postRepository.findMaxId(), postRepository::reconcileLikeCounts);
+        int comments = reconcile(commentRepository.findMaxId(), commentRepository::reconcileLikeCounts);
+
+        log.info("like_count 보정 완료: 고아 좋아요 {}건 삭제, 게시글 {}건, 댓글 {}건", orphans, posts, comments);
+    }
+
+    // 구간마다 별도 트랜잭션으로 실행되어 잠금 범위가 chunkSize 행으로 제한됨
+    private int reconcile(int maxId, IntBinaryOperator reconcileChunk) {
+        int fixed = 0;
+        for (int fromId = 0; fromId < maxId; fromId += chunkSize) {
+            fixed += reconcileChunk.applyAsInt(fromId, fromId + chunkSize);
+        }
+        return fixed;
+    }
+}
@@ -1,10 +1,22 @@
 package com.example.joribhaejospring.like;
 
 import com.example.joribhaejospring.user.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Repository
@@ -18,4 +30,88 @@ public interface LikeRepository extends JpaRepository<Like, Integer> {
     Integer countByTargetTypeAndTargetId(Like.TargetType targetType, Integer postId);
 
     List<Like> findByUserAndTargetType(User user, Like.TargetType targetType);
+
+    // 엔티티 대신 대상 id만 조회 (LikedSetCache 로딩용)
+    @Query("select l.targetId from Like l where l.user.id = :userId and l.targetType = :targetType")
+    List<Integer> findTargetIds(@Param("userId") Integer userId, @Param("targetType") Like.TargetType targetType);
+
+    // 활동 피드: 누른 좋아요 (idx_likes_user_created)
+    @Query("select l from Like l where l.user.id = :userId order by l.createdAt desc, l.id desc")
+    List<Like> findGivenFirstSlice(@Param("userId") Integer userId, Pageable pageable);
+
+    @Query("select l from Like l where l.user.id = :userId " +
+            "and (l.createdAt < :createdAt or (l.createdAt = :createdAt and l.id < :id)) " +
+            "order by l.createdAt desc, l.id desc")
+    List<Like> findGivenSliceAfter(@Param("userId") Integer userId,
+                                   @Param("createdAt") LocalDateTime createdAt,
+                                   @Param("id") Integer id,
+                                   Pageable pageable);
+
+    // (user_id, target_type, target_id) 유니크 키 기준 단일 문장 처리, 영향받은 행 수(0 또는 1)로 상태 변화 판단
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "likes"))
+    @Query(value = "INSERT IGNORE INTO likes (user_id, target_type, target_id) VALUES (:userId, :targetType, :targetId)",
+            nativeQuery = true)
+    int insertIgnore(@Param("userId") Integer userId, @Param("targetType") String targetType, @Param("targetId") Integer targetId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "likes"))
+    @Query(value = "DELETE FROM likes WHERE user_id = :userId AND target_type = :targetType AND target_id = :targetId",
+            nativeQuery = true)
+    int deleteByKey(@Param("userId") Integer userId, @Param("targetType") String targetType, @Param("targetId") Integer targetId);
+
+    // likes는 대상 테이블에 FK가 없으므로 게시글/댓글 삭제 시 직접 정리 (idx_likes_target 사용)
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "likes"))
+    @Query(value = "DELETE FROM likes WHERE target_type = :targetType AND target_id IN (:targetIds)", nativeQuery = true)
+    int deleteByTargets(@Param("targetType") String targetType, @Param("targetIds") Collection<Integer> targetIds);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "likes"))
+    @Query(value = "DELETE FROM likes WHERE target_type = 'COMMENT' " +
+            "AND target_id IN (SELECT c.id FROM comments c WHERE c.post_id = :postId)", nativeQuery = true)
+    int deleteCommentLikesByPostId(@Param("postId") Integer postId);
+
+    // 답글은 FK CASCADE로 함께 지워지므로 하위 댓글 전체의 좋아요를 정리
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "likes"))
+    @Query(value = "DELETE FROM likes WHERE target_type = 'COMMENT' AND target_id IN (" +
+            "WITH RECURSIVE subtree (id) AS (" +
+            "SELECT id FROM comments WHERE id = :commentId " +
+            "UNION ALL SELECT c.id FROM comments c JOIN subtree s ON c.parent_comment_id = s.id" +
+            ") SELECT id FROM subtree)", nativeQuery = true)
+    int deleteCommentTreeLikes(@Param("commentId") Integer commentId);
+
+    @Query("select coalesce(max(l.id), 0) from Like l")
+    Integer findMaxId();
+
+    // (fromId, toId] 구간에서 대상 게시글/댓글이 이미 없는 좋아요 삭제
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "likes"))
+    @Query(value = "DELETE FROM likes " +
+            "WHERE id > :fromId AND id <= :toId AND (" +
+            "(target_type = 'POST' AND NOT EXISTS (SELECT 1 FROM posts p WHERE p.id = likes.target_id)) " +
+            "OR (target_type = 'COMMENT' AND NOT EXISTS (SELECT 1 FROM comments c WHERE c.id = likes.target_id)))",
+            nativeQuery = true)
+    int deleteOrphans(@Param("fromId") int fromId, @Param("toId") int toId);
+
+    @Query("select l.targetId as targetId, count(l) as likeCount from Like l " +
+            "where l.targetType = :targetType and l.targetId in :targetIds " +
+            "group by l.targetId")
+    List<LikeCount> countGroupByTargetIds(@Param("targetType") Like.TargetType targetType,
+                                          @Param("targetIds") Collection<Integer> targetIds);
+
+    // 여러 대상의 좋아요 수를 한 번의 쿼리로 조회 (좋아요가 없는 대상은 맵에 포함되지 않음)
+    default Map<Integer, Integer> countMapByTargetIds(Like.TargetType targetType, Collection<Integer> targetIds) {
+        if (targetIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Integer, Integer> counts = new HashMap<>();
+        for (LikeCount likeCount : countGroupByTargetIds(targetType, targetIds)) {
+            counts.put(likeCount.getTargetId(), likeCount.getLikeCount().intValue());
+        }
+        return counts;
+    }
 }
@@ -1,27 +1,67 @@
 package com.example.joribhaejospring.like;
 
+import com.example.joribhaejospring.comment.CommentRepository;
+import com.example.joribhaejospring.common.exception.InvalidRequestException;
+import com.example.joribhaejospring.like.dto.LikeStateResponse;
+import com.example.joribhaejospring.post.PostRepository;
 import com.example.joribhaejospring.user.User;
 import lombok.RequiredArgsConstructor;
+import org.roaringbitmap.IntConsumer;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class LikeService {
+    private static final int MAX_LOOKUP_IDS = 1_000;
+    private static final int TOGGLE_ATTEMPTS = 3;
+
     private final LikeRepository likeRepository;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final LikedSetCache likedSetCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional(readOnly = true)
     public List<Integer> getLikedIds(Like.TargetType targetType) {
         User user = getCurrentUser();
 
-        List<Like> likes = likeRepository.findByUserAndTargetType(user, targetType);
+        return toList(likedSetCache.get(user.getId(), targetType));
+    }
+
+    // 주어진 id 중 현재 사용자가 좋아요 누른 것만 (목록 한 페이지 분량을 한 번에 확인)
+    public List<Integer> getLikedIdsAmong(Like.TargetType targetType, Collection<Integer> targetIds) {
+        if (targetIds.size() > MAX_LOOKUP_IDS) {
+            throw new InvalidRequestException("한 번에 최대 " + MAX_LOOKUP_IDS + "개까지 조회할 수 있습니다.");
+        }
+        User user = getCurrentUser();
+
+        RoaringBitmap liked = likedSetCache.get(user.getId(), targetType);
+        return targetIds.stream()
+                .filter(liked::contains)
+                .distinct()
+                .toList();
+    }
 
-        return likes.stream().map(Like::getTargetId).collect(Collectors.toList());
+    // 로그인하지 않은 요청이면 empty (목록 응답의 likedByMe 표시용)
+    public Optional<RoaringBitmap> findLikedSetOfCurrentUser(Like.TargetType targetType) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof User user)) {
+            return Optional.empty();
+        }
+        return Optional.of(likedSetCache.get(user.getId(), targetType));
     }
 
     // 좋아요 상태 조회
@@ -31,24 +71,99 @@ public class LikeService {
         return likeRepository.existsByUserAndTargetTypeAndTargetId(user, targetType, targetId);
     }
 
+    // 좋아요 설정 (이미 눌렀으면 그대로), 동시에 여러 번 호출돼도 유니크 키 충돌 없이 한 번만 반영
     @Transactional
-    public void toggleLike(Like.TargetType targetType, Integer targetId) {
+    public LikeStateResponse like(Like.TargetType targetType, Integer targetId) {
         User user = getCurrentUser();
 
-        Optional<Like> existingLike = likeRepository.findByUserAndTargetTypeAndTargetId(user, targetType, targetId);
+        if (likeRepository.insertIgnore(user.getId(), targetType.name(), targetId) == 1) {
+            addLikeCount(targetType, targetId, 1);
+            eventPublisher.publishEvent(new LikeChangedEvent(user.getId(), targetType, targetId, true));
+        }
+        return new LikeStateResponse(true, getLikeCount(targetType, targetId));
+    }
 
-        if (existingLike.isPresent()) {
-            // 이미 좋아요가 있는 경우 → 삭제 (toggle off)
-            likeRepository.delete(existingLike.get());
-        } else {
-            // 좋아요가 없는 경우 → 새로 생성 (toggle on)
-            Like newLike = Like.builder()
-                    .user(user)
-                    .targetType(targetType)
-                    .targetId(targetId)
-                    .build();
-            likeRepository.save(newLike);
+    // 좋아요 해제 (누르지 않았으면 그대로)
+    @Transactional
+    public LikeStateResponse unlike(Like.TargetType targetType, Integer targetId) {
+        User user = getCurrentUser();
+
+        if (likeRepository.deleteByKey(user.getId(), targetType.name(), targetId) == 1) {
+            addLikeCount(targetType, targetId, -1);
+            eventPublisher.publishEvent(new LikeChangedEvent(user.getId(), targetType, targetId, false));
         }
+        return new LikeStateResponse(false, getLikeCount(targetType, targetId));
+    }
+
+    // 삽입을 먼저 시도해서 들어가면 설정, 이미 있었으면 삭제해서 해제 (조회 후 분기하지 않음)
+    // InnoDB에서 삭제를 먼저 하면 없는 행의 DELETE가 갭 락을 잡아, 동시 토글(더블 클릭)끼리 서로의 INSERT를 막고 교착됨
+    // 삽입 먼저여도 이미 있는 행에 동시 토글이 오면 중복 키의 공유 락 → 삭제의 배타 락 승격에서 교착될 수 있으므로
+    // 롤백된 쪽은 새 트랜잭션으로 다시 시도 (그 사이 다른 토글이 커밋되어 있어 결과는 순서대로 적용한 것과 같음)
+    public LikeStateResponse toggleLike(Like.TargetType targetType, Integer targetId) {
+        User user = getCurrentUser();
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute((status) -> toggle(user.getId(), targetType, targetId));
+            } catch (PessimisticLockingFailureException e) {
+                if (attempt >= TOGGLE_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private LikeStateResponse toggle(Integer userId, Like.TargetType targetType, Integer targetId) {
+        if (likeRepository.insertIgnore(userId, targetType.name(), targetId) == 1) {
+            addLikeCount(targetType, targetId, 1);
+            eventPublisher.publishEvent(new LikeChangedEvent(userId, targetType, targetId, true));
+            return new LikeStateResponse(true, getLikeCount(targetType, targetId));
+        }
+        if (likeRepository.deleteByKey(userId, targetType.name(), targetId) == 1) {
+            addLikeCount(targetType, targetId, -1);
+            eventPublisher.publishEvent(new LikeChangedEvent(userId, targetType, targetId, false));
+        }
+        return new LikeStateResponse(false, getLikeCount(targetType, targetId));
+    }
+
+    private int getLikeCount(Like.TargetType targetType, Integer targetId) {
+        Optional<Integer> likeCount = switch (targetType) {
+            case POST -> postRepository.findLikeCount(targetId);
+            case COMMENT -> commentRepository.findLikeCount(targetId);
+        };
+
+        return likeCount.orElseThrow(() -> new NoSuchElementException("좋아요 대상을 찾을 수 없습니다."));
+    }
+
+    // 대상 게시글/댓글의 like_count를 같은 트랜잭션에서 원자적으로 갱신
+    private void addLikeCount(Like.TargetType targetType, Integer targetId, int delta) {
+        int updated = switch (targetType) {
+            case POST -> postRepository.addLikeCount(targetId, delta);
+            case COMMENT -> commentRepository.addLikeCount(targetId, delta);
+        };
+
+        if (updated == 0) {
+            throw new NoSuchElementException("좋아요 대상을 찾을 수 없습니다.");
+        }
+    }
+
+    // 게시글 삭제 전 게시글과 그 댓글들의 좋아요 정리 (호출한 쪽 트랜잭션에서 실행)
+    @Transactional
+    public void deleteLikesOfPost(Integer postId) {
+        likeRepository.deleteCommentLikesByPostId(postId);
+        likeRepository.deleteByTargets(Like.TargetType.POST.name(), List.of(postId));
+    }
+
+    // 댓글 삭제 전 댓글과 그 답글들의 좋아요 정리
+    @Transactional
+    public void deleteLikesOfCommentTree(Integer commentId) {
+        likeRepository.deleteCommentTreeLikes(commentId);
+    }
+
+    private static List<Integer> toList(RoaringBitmap bitmap) {
+        List<Integer> ids = new ArrayList<>(bitmap.getCardinality());
+        bitmap.forEach((IntConsumer) ids::add);
+        return ids;
     }
 
     private User getCurrentUser() {
@@ -0,0 +1,72 @@
+package com.example.joribhaejospring.like;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+// 사용자별로 좋아요 누른 대상 id를 압축 비트맵으로 캐시
+// 캐시에 올라간 비트맵은 수정하지 않고, 변경 시 복사본을 만들어 교체 (읽는 쪽은 잠금 없이 조회)
+@Component
+public class LikedSetCache {
+    private final LikeRepository likeRepository;
+    private final LoadingCache<Key, RoaringBitmap> cache;
+
+    public LikedSetCache(
+            LikeRepository likeRepository,
+            MeterRegistry meterRegistry,
+            @Value("${like.liked-set.max-bytes:67108864}") long maxBytes,
+            @Value("${like.liked-set.ttl:10m}") Duration ttl
+    ) {
+        this.likeRepository = likeRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Key key, RoaringBitmap bitmap) -> (int) Math.min(Integer.MAX_VALUE, bitmap.getLongSizeInBytes()))
+                .expireAfterAccess(ttl)
+                .recordStats()
+                .build(this::load);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "likedSets");
+    }
+
+    // 반환된 비트맵은 읽기 전용으로 사용
+    public RoaringBitmap get(Integer userId, Like.TargetType targetType) {
+        return cache.get(new Key(userId, targetType));
+    }
+
+    @TransactionalEventListener
+    public void onLikeChanged(LikeChangedEvent event) {
+        // 캐시에 없으면 다음 조회 때 DB에서 새로 읽으므로 무시, 로딩 중이면 로딩이 끝난 뒤 적용됨
+        cache.asMap().computeIfPresent(new Key(event.getUserId(), event.getTargetType()), (key, bitmap) -> {
+            RoaringBitmap copy = bitmap.clone();
+            if (event.isLiked()) {
+                copy.add(event.getTargetId());
+            } else {
+                copy.remove(event.getTargetId());
+            }
+            return copy;
+        });
+    }
+
+    // 대상이 지워진 경우 등 일괄 무효화
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private RoaringBitmap load(Key key) {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        for (Integer targetId : likeRepository.findTargetIds(key.userId(), key.targetType())) {
+            bitmap.add(targetId);
+        }
+        bitmap.runOptimize();
+        return bitmap;
+    }
+
+    private record Key(Integer userId, Like.TargetType targetType) {
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.joribhaejospring.like.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 좋아요 설정/해제/토글 후의 상태
+@Getter
+@AllArgsConstructor
+public class LikeStateResponse {
+    private boolean liked;
+    private int likeCount;
+}
@@ -30,6 +30,10 @@ public class Message {
     @Column(nullable = false, columnDefinition = "TEXT")
     private String content;
 
+    // 수신자가 상세 조회하면 true (MessageRepository.markRead로만 갱신)
+    @Column(name = "is_read", insertable = false, updatable = false)
+    private Boolean read;
+
     @Column(name = "created_at", insertable = false, updatable = false,
             columnDefinition = "DATETIME DEFAULT CURRENT_TIMESTAMP")
     private LocalDateTime createdAt;
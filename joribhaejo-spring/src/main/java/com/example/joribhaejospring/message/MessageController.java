@@ -1,10 +1,14 @@
 package com.example.joribhaejospring.message;
 
+import com.example.joribhaejospring.common.ratelimit.RateLimited;
+import com.example.joribhaejospring.post.dto.CursorResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -35,10 +39,71 @@ public class MessageController {
     }
 
     @Operation(
-            summary = "쪽지 상세 조회",
+            summary = "받은 쪽지 목록 조회 (커서)",
+            description = "cursor 없이 호출하면 첫 페이지, 이후에는 응답의 nextCursor를 전달",
+            security = @SecurityRequirement(name = "Authorization")
+    )
+    @GetMapping("/inbox/cursor")
+    public ResponseEntity<CursorResponse<MessageDto>> getInboxMessagesByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(messageService.getInboxMessages(cursor, size));
+    }
+
+    @Operation(
+            summary = "보낸 쪽지 목록 조회 (커서)",
+            description = "cursor 없이 호출하면 첫 페이지, 이후에는 응답의 nextCursor를 전달",
+            security = @SecurityRequirement(name = "Authorization")
+    )
+    @GetMapping("/sent/cursor")
+    public ResponseEntity<CursorResponse<MessageDto>> getSentMessagesByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(messageService.getSentMessages(cursor, size));
+    }
+
+    @Operation(
+            summary = "쪽지 스트림 티켓 발급",
+            description = "SSE 연결에 쓸 일회용 티켓 (30초 유효), 연결·재연결마다 새로 발급",
+            security = @SecurityRequirement(name = "Authorization")
+    )
+    @PostMapping("/stream-ticket")
+    public ResponseEntity<String> issueStreamTicket() {
+        return ResponseEntity.ok(messageService.issueStreamTicket());
+    }
+
+    @Operation(
+            summary = "새 쪽지 실시간 수신 (SSE)",
+            description = "EventSource는 헤더를 못 보내므로 stream-ticket으로 받은 ticket 쿼리 파라미터로 인증, " +
+                    "재연결 시 Last-Event-ID 헤더(또는 lastEventId 파라미터) 이후 쪽지를 이어서 전송"
+    )
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(
+            @RequestParam String ticket,
+            @RequestHeader(value = "Last-Event-ID", required = false) Integer lastEventIdHeader,
+            // 티켓이 바뀌어 새 EventSource를 만들면 브라우저가 Last-Event-ID를 보내지 않으므로 파라미터로도 받음
+            @RequestParam(required = false) Integer lastEventId
+    ) {
+        return messageService.openStream(ticket, lastEventIdHeader != null ? lastEventIdHeader : lastEventId);
+    }
+
+    @Operation(
+            summary = "안 읽은 쪽지 수",
             description = "",
             security = @SecurityRequirement(name = "Authorization")
     )
+    @GetMapping("/unread-count")
+    public ResponseEntity<Integer> getUnreadCount() {
+        return ResponseEntity.ok(messageService.getUnreadCount());
+    }
+
+    @Operation(
+            summary = "쪽지 상세 조회",
+            description = "받는 사람이 조회하면 읽음 처리",
+            security = @SecurityRequirement(name = "Authorization")
+    )
     @GetMapping("/{messageId}")
     public ResponseEntity<MessageDto> getMessageDetail(@PathVariable Integer messageId) {
         return ResponseEntity.ok(messageService.getMessageDetail(messageId));
@@ -50,6 +115,7 @@ public class MessageController {
             security = @SecurityRequirement(name = "Authorization")
     )
     @PostMapping("/{receiverUsername}")
+    @RateLimited("messages")
     public ResponseEntity<MessageDto> sendMessage(
             @PathVariable String receiverUsername,
             @RequestBody MessageRequest request
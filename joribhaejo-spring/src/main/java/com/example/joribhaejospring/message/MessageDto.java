@@ -19,6 +19,7 @@ public class MessageDto {
     private String receiverUsername;
     private String content;
     private LocalDateTime createdAt;
+    private Boolean read;
 
     public static MessageDto fromEntity(Message message) {
         return MessageDto.builder()
@@ -29,6 +30,7 @@ public class MessageDto {
                 .receiverUsername(message.getReceiver().getUsername())
                 .content(message.getContent())
                 .createdAt(message.getCreatedAt())
+                .read(message.getRead())
                 .build();
     }
 }
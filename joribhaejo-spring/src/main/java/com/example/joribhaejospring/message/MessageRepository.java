@@ -1,13 +1,66 @@
 package com.example.joribhaejospring.message;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface MessageRepository extends JpaRepository<Message, Integer> {
-    List<Message> findByReceiverIdOrderByCreatedAtDesc(Integer userId);
+    // 보낸 사람·받는 사람을 join으로 한 번에 조회하는 DTO 프로젝션
+    String DTO_SELECT = "select new com.example.joribhaejospring.message.MessageDto(" +
+            "m.id, s.id, s.username, r.id, r.username, m.content, m.createdAt, m.read) " +
+            "from Message m join m.sender s join m.receiver r ";
 
-    List<Message> findBySenderIdOrderByCreatedAtDesc(Integer userId);
+    String NEWEST_FIRST = "order by m.createdAt desc, m.id desc";
+
+    String AFTER_CURSOR = "and (m.createdAt < :createdAt or (m.createdAt = :createdAt and m.id < :id)) ";
+
+    // (receiver_id, created_at, id) 인덱스 사용, Pageable.unpaged()면 전체
+    @Query(DTO_SELECT + "where r.id = :userId " + NEWEST_FIRST)
+    List<MessageDto> findInbox(@Param("userId") Integer userId, Pageable pageable);
+
+    @Query(DTO_SELECT + "where r.id = :userId " + AFTER_CURSOR + NEWEST_FIRST)
+    List<MessageDto> findInboxAfter(@Param("userId") Integer userId,
+                                    @Param("createdAt") LocalDateTime createdAt,
+                                    @Param("id") Integer id,
+                                    Pageable pageable);
+
+    // (sender_id, created_at, id) 인덱스 사용
+    @Query(DTO_SELECT + "where s.id = :userId " + NEWEST_FIRST)
+    List<MessageDto> findSent(@Param("userId") Integer userId, Pageable pageable);
+
+    @Query(DTO_SELECT + "where s.id = :userId " + AFTER_CURSOR + NEWEST_FIRST)
+    List<MessageDto> findSentAfter(@Param("userId") Integer userId,
+                                   @Param("createdAt") LocalDateTime createdAt,
+                                   @Param("id") Integer id,
+                                   Pageable pageable);
+
+    @Query(DTO_SELECT + "where m.id = :id")
+    Optional<MessageDto> findDtoById(@Param("id") Integer id);
+
+    // SSE 재연결 시 Last-Event-ID 이후 받은 쪽지 (오래된 순)
+    @Query(DTO_SELECT + "where r.id = :userId and m.id > :lastId order by m.id asc")
+    List<MessageDto> findInboxSince(@Param("userId") Integer userId, @Param("lastId") Integer lastId, Pageable pageable);
+
+    // 다른 인스턴스에서 보낸 쪽지 폴링: 이 인스턴스에 연결된 수신자들이 since 이후 받은 쪽지 ((receiver_id, created_at, id) 인덱스)
+    @Query(DTO_SELECT + "where r.id in :receiverIds and m.createdAt >= :since order by m.id asc")
+    List<MessageDto> findInboxOfReceiversSince(@Param("receiverIds") Collection<Integer> receiverIds,
+                                               @Param("since") LocalDateTime since);
+
+    // 처음 읽는 경우에만 1 반환 (동시에 읽어도 안 읽은 쪽지 수가 한 번만 줄도록)
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "messages"))
+    @Query(value = "UPDATE messages SET is_read = TRUE WHERE id = :id AND is_read = FALSE", nativeQuery = true)
+    int markRead(@Param("id") Integer id);
 }
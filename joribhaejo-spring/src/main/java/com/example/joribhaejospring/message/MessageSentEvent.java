@@ -0,0 +1,12 @@
+package com.example.joribhaejospring.message;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 쪽지 전송 커밋 후 수신자의 SSE 연결로 밀어 주기 위한 이벤트
+@Getter
+@AllArgsConstructor
+public class MessageSentEvent {
+    private final Integer messageId;
+    private final Integer receiverId;
+}
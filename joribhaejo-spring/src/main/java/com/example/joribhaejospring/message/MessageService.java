@@ -1,12 +1,22 @@
 package com.example.joribhaejospring.message;
 
+import com.example.joribhaejospring.common.KeysetCursor;
+import com.example.joribhaejospring.common.PageLimits;
+import com.example.joribhaejospring.post.dto.CursorResponse;
 import com.example.joribhaejospring.user.User;
 import com.example.joribhaejospring.user.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.NoSuchElementException;
 
@@ -15,26 +25,73 @@ import java.util.NoSuchElementException;
 public class MessageService {
     private final MessageRepository messageRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MessageStreamRegistry messageStreamRegistry;
+    private final MessageStreamTickets messageStreamTickets;
 
+    @Transactional(readOnly = true)
     public List<MessageDto> getInboxMessages() {
         User user = getCurrentUser();
-        List<Message> messages = messageRepository.findByReceiverIdOrderByCreatedAtDesc(user.getId());
-        return messages.stream().map(MessageDto::fromEntity).toList();
+        return messageRepository.findInbox(user.getId(), Pageable.unpaged());
     }
 
+    @Transactional(readOnly = true)
     public List<MessageDto> getSentMessages() {
         User user = getCurrentUser();
-        List<Message> messages = messageRepository.findBySenderIdOrderByCreatedAtDesc(user.getId());
-        return messages.stream().map(MessageDto::fromEntity).toList();
+        return messageRepository.findSent(user.getId(), Pageable.unpaged());
     }
 
+    // 받은 쪽지 (커서 기반)
+    @Transactional(readOnly = true)
+    public CursorResponse<MessageDto> getInboxMessages(String cursor, int size) {
+        Integer userId = getCurrentUser().getId();
+        return slice(cursor, size,
+                limit -> messageRepository.findInbox(userId, limit),
+                (createdAt, id, limit) -> messageRepository.findInboxAfter(userId, createdAt, id, limit));
+    }
+
+    // 보낸 쪽지 (커서 기반)
+    @Transactional(readOnly = true)
+    public CursorResponse<MessageDto> getSentMessages(String cursor, int size) {
+        Integer userId = getCurrentUser().getId();
+        return slice(cursor, size,
+                limit -> messageRepository.findSent(userId, limit),
+                (createdAt, id, limit) -> messageRepository.findSentAfter(userId, createdAt, id, limit));
+    }
+
+    // 트랜잭션 없이 연결 등록 (SSE 연결이 유지되는 동안 DB 커넥션을 잡지 않도록)
+    public String issueStreamTicket() {
+        return messageStreamTickets.issue(getCurrentUser().getId());
+    }
+
+    // 스트림 요청은 access 토큰 없이 티켓으로만 인증
+    public SseEmitter openStream(String ticket, Integer lastEventId) {
+        Integer userId = messageStreamTickets.redeem(ticket)
+                .orElseThrow(() -> new BadCredentialsException("유효하지 않은 스트림 티켓입니다."));
+        return messageStreamRegistry.connect(userId, lastEventId);
+    }
+
+    @Transactional(readOnly = true)
+    public int getUnreadCount() {
+        Integer count = userRepository.findUnreadMessageCount(getCurrentUser().getId());
+        return count == null ? 0 : count;
+    }
+
+    // 수신자가 처음 조회하면 읽음 처리
+    @Transactional
     public MessageDto getMessageDetail(Integer messageId) {
         Message message = messageRepository.findById(messageId)
                 .orElseThrow(() -> new NoSuchElementException("Message not found"));
 
+        User currentUser = getCurrentUser();
+        if (message.getReceiver().getId().equals(currentUser.getId()) && markRead(message)) {
+            message.setRead(true);
+        }
+
         return MessageDto.fromEntity(message);
     }
 
+    @Transactional
     public MessageDto sendMessage(String receiverUsername, String content) {
         User sender = (User) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
         User receiver = userRepository.findByUsername(receiverUsername)
@@ -47,9 +104,12 @@ public class MessageService {
                 .build();
 
         messageRepository.save(message);
+        userRepository.addUnreadMessageCount(receiver.getId(), 1);
+        eventPublisher.publishEvent(new MessageSentEvent(message.getId(), receiver.getId()));
         return MessageDto.fromEntity(message);
     }
 
+    @Transactional
     public void deleteMessage(Integer messageId) {
         User currentUser = (User) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
 
@@ -60,9 +120,50 @@ public class MessageService {
             throw new AccessDeniedException("No permission to delete this message");
         }
 
+        // 안 읽은 채로 지우는 경우에도 카운터를 맞춤
+        markRead(message);
         messageRepository.delete(message);
     }
 
+    private boolean markRead(Message message) {
+        if (messageRepository.markRead(message.getId()) == 0) {
+            return false;
+        }
+        userRepository.addUnreadMessageCount(message.getReceiver().getId(), -1);
+        return true;
+    }
+
+    // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+    private CursorResponse<MessageDto> slice(String cursor, int size, FirstSlice first, SliceAfter after) {
+        Pageable limit = PageRequest.of(0, PageLimits.checkSize(size) + 1);
+
+        List<MessageDto> messages;
+        if (cursor == null) {
+            messages = first.find(limit);
+        } else {
+            KeysetCursor position = KeysetCursor.decode(cursor);
+            messages = after.find(position.getCreatedAt(), position.getId(), limit);
+        }
+
+        boolean hasNext = messages.size() > size;
+        List<MessageDto> slice = hasNext ? messages.subList(0, size) : messages;
+
+        String nextCursor = null;
+        if (hasNext) {
+            MessageDto last = slice.get(slice.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return CursorResponse.of(slice, nextCursor);
+    }
+
+    private interface FirstSlice {
+        List<MessageDto> find(Pageable limit);
+    }
+
+    private interface SliceAfter {
+        List<MessageDto> find(LocalDateTime createdAt, Integer id, Pageable limit);
+    }
+
     private User getCurrentUser(){
         return (User) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
     }
@@ -0,0 +1,199 @@
+package com.example.joribhaejospring.message;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+// SSE 연결 하나: 보낼 이벤트를 고정 크기 큐에 쌓고 전송 스레드가 순서대로 내보냄
+// 큐가 가득 차면(느린 클라이언트) 연결을 끊고, 클라이언트는 Last-Event-ID로 재연결해 DB에서 이어받음
+// 같은 쪽지가 이벤트와 DB 폴링(다른 인스턴스에서 보낸 쪽지)으로 두 번 들어올 수 있으므로 최근 보낸 id로 걸러냄
+@Slf4j
+class MessageStreamConnection {
+    // 폴링 겹침 구간 동안 다시 들어올 수 있는 쪽지를 거르기에 충분한 크기
+    private static final int RECENT_IDS = 256;
+
+    @Getter
+    private final Integer userId;
+    @Getter
+    private final SseEmitter emitter;
+    private final BlockingQueue<SseEmitter.SseEventBuilder> queue;
+    private final Executor sender;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final Runnable onClose;
+    // 전송 중이면 시작 시각(ms), 아니면 0: 소켓 버퍼가 찬 채 멈춘 연결 감지용
+    private volatile long sendStartedAt;
+    private volatile Thread sendingThread;
+
+    // 재연결 직후 DB 재전송이 끝날 때까지 실시간 이벤트를 잠시 보관 (순서 보장 + 중복 제거)
+    private final ReentrantLock replayLock = new ReentrantLock();
+    private List<MessageDto> heldBack = new ArrayList<>();
+    private final Set<Integer> recentIds = new LinkedHashSet<>();
+
+    MessageStreamConnection(Integer userId, SseEmitter emitter, int bufferSize, Executor sender, Runnable onClose) {
+        this.userId = userId;
+        this.emitter = emitter;
+        this.queue = new ArrayBlockingQueue<>(bufferSize);
+        this.sender = sender;
+        this.onClose = onClose;
+    }
+
+    // 커밋된 새 쪽지 (이미 보낸 쪽지면 무시)
+    void deliver(MessageDto message) {
+        replayLock.lock();
+        try {
+            if (heldBack != null) {
+                heldBack.add(message);
+                return;
+            }
+            if (!remember(message.getId())) {
+                return;
+            }
+        } finally {
+            replayLock.unlock();
+        }
+        offer(messageEvent(message));
+    }
+
+    // 재연결 시 놓친 쪽지를 먼저 보내고, 그동안 보관한 실시간 이벤트 중 겹치지 않는 것만 이어서 보냄
+    void finishReplay(List<MessageDto> missed, boolean truncated) {
+        replayLock.lock();
+        try {
+            for (MessageDto message : missed) {
+                remember(message.getId());
+                offer(messageEvent(message));
+            }
+            if (truncated) {
+                // 재전송 한도를 넘으면 클라이언트가 목록을 다시 불러오도록 알림
+                offer(SseEmitter.event().name("resync").data(""));
+            }
+            for (MessageDto message : heldBack) {
+                if (remember(message.getId())) {
+                    offer(messageEvent(message));
+                }
+            }
+            heldBack = null;
+        } finally {
+            replayLock.unlock();
+        }
+    }
+
+    void heartbeat() {
+        offer(SseEmitter.event().comment("heartbeat"));
+    }
+
+    void close() {
+        if (markClosed()) {
+            complete();
+        }
+    }
+
+    // 전송이 멈춘 연결 정리: 멈춘 send가 emitter 잠금을 쥐고 있으므로 호출 스레드(스케줄러)에서 complete하지 않고
+    // 전송 스레드를 깨운 뒤 전송 풀에서 정리
+    void abort() {
+        if (markClosed()) {
+            Thread thread = sendingThread;
+            if (thread != null) {
+                thread.interrupt();
+            }
+            sender.execute(this::complete);
+        }
+    }
+
+    // 한 이벤트를 sendTimeoutMillis보다 오래 보내고 있으면 true
+    boolean isStalled(long now, long sendTimeoutMillis) {
+        long startedAt = sendStartedAt;
+        return startedAt != 0 && now - startedAt > sendTimeoutMillis;
+    }
+
+    boolean isClosed() {
+        return closed.get();
+    }
+
+    private boolean markClosed() {
+        if (!closed.compareAndSet(false, true)) {
+            return false;
+        }
+        queue.clear();
+        onClose.run();
+        return true;
+    }
+
+    private void complete() {
+        try {
+            emitter.complete();
+        } catch (RuntimeException e) {
+            log.debug("SSE 연결 종료 중 오류: {}", e.getMessage());
+        }
+    }
+
+    // 처음 보는 id면 기록하고 true, 오래된 것부터 버려 크기를 제한 (replayLock 안에서 호출)
+    private boolean remember(Integer messageId) {
+        if (!recentIds.add(messageId)) {
+            return false;
+        }
+        if (recentIds.size() > RECENT_IDS) {
+            recentIds.remove(recentIds.iterator().next());
+        }
+        return true;
+    }
+
+    private void offer(SseEmitter.SseEventBuilder event) {
+        if (closed.get()) {
+            return;
+        }
+        if (!queue.offer(event)) {
+            log.info("SSE 전송 대기열 초과로 연결 종료 (userId={})", userId);
+            close();
+            return;
+        }
+        scheduleDrain();
+    }
+
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true)) {
+            sender.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        sendingThread = Thread.currentThread();
+        try {
+            SseEmitter.SseEventBuilder event;
+            while (!closed.get() && (event = queue.poll()) != null) {
+                sendStartedAt = System.currentTimeMillis();
+                emitter.send(event);
+                sendStartedAt = 0;
+            }
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 끊었거나 이미 완료된 emitter
+            close();
+        } finally {
+            sendStartedAt = 0;
+            sendingThread = null;
+            draining.set(false);
+        }
+        // drain 종료 직전에 들어온 이벤트 처리
+        if (!closed.get() && !queue.isEmpty()) {
+            scheduleDrain();
+        }
+    }
+
+    private static SseEmitter.SseEventBuilder messageEvent(MessageDto message) {
+        return SseEmitter.event()
+                .id(message.getId().toString())
+                .name("message")
+                .data(message);
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.joribhaejospring.message;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 사용자별 SSE 연결 관리: 쪽지 전송 커밋 시 수신자의 모든 연결(탭)로 전달
+// 인스턴스가 여럿이면 수신자가 다른 인스턴스에 연결돼 있을 수 있으므로, 연결된 수신자의 새 쪽지를 주기적으로 DB에서도 읽어 전달
+// (같은 인스턴스에서 보낸 쪽지는 이벤트로 바로 가고, 폴링으로 다시 읽힌 것은 연결이 id로 걸러냄)
+@Slf4j
+@Component
+public class MessageStreamRegistry {
+    // 폴링 쿼리의 IN 목록 크기
+    private static final int POLL_CHUNK_SIZE = 500;
+
+    private final MessageRepository messageRepository;
+    private final Duration timeout;
+    private final int bufferSize;
+    private final int replayLimit;
+    private final long sendTimeoutMillis;
+    private final Duration pollOverlap;
+    private final ExecutorService sender;
+
+    private final ConcurrentHashMap<Integer, Set<MessageStreamConnection>> connections = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private volatile LocalDateTime polledAt;
+
+    public MessageStreamRegistry(
+            MessageRepository messageRepository,
+            @Value("${message-stream.timeout:30m}") Duration timeout,
+            @Value("${message-stream.buffer-size:64}") int bufferSize,
+            @Value("${message-stream.replay-limit:100}") int replayLimit,
+            @Value("${message-stream.send-timeout:30s}") Duration sendTimeout,
+            // created_at은 커밋이 아닌 insert 시각(DB 시계)이므로 늦게 커밋된 쪽지와 시계 차이를 겹쳐 읽어 보완
+            @Value("${message-stream.poll-overlap:5s}") Duration pollOverlap
+    ) {
+        this.messageRepository = messageRepository;
+        this.timeout = timeout;
+        this.bufferSize = bufferSize;
+        this.replayLimit = replayLimit;
+        this.sendTimeoutMillis = sendTimeout.toMillis();
+        this.pollOverlap = pollOverlap;
+        // SseEmitter.send는 소켓 버퍼가 차면 막히는 블로킹 호출이므로 연결마다 가상 스레드에서 전송
+        // (작은 공유 풀이면 멈춘 연결 몇 개가 모든 사용자의 전송을 막음)
+        this.sender = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("message-stream-", 0).factory());
+    }
+
+    // lastEventId: 클라이언트가 마지막으로 받은 쪽지 id (없으면 새 쪽지부터)
+    public SseEmitter connect(Integer userId, Integer lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        MessageStreamConnection connection = new MessageStreamConnection(userId, emitter, bufferSize, sender,
+                () -> remove(userId));
+        emitter.onCompletion(connection::close);
+        emitter.onTimeout(connection::close);
+        emitter.onError(e -> connection.close());
+
+        // 등록 후 재전송 조회: 그 사이 커밋된 쪽지는 connection이 보관했다가 중복 없이 이어서 보냄
+        connections.compute(userId, (id, set) -> {
+            Set<MessageStreamConnection> target = (set == null) ? ConcurrentHashMap.newKeySet() : set;
+            target.add(connection);
+            return target;
+        });
+        connectionCount.incrementAndGet();
+
+        try {
+            List<MessageDto> missed = List.of();
+            boolean truncated = false;
+            if (lastEventId != null) {
+                missed = messageRepository.findInboxSince(userId, lastEventId, PageRequest.of(0, replayLimit + 1));
+                truncated = missed.size() > replayLimit;
+                if (truncated) {
+                    missed = missed.subList(0, replayLimit);
+                }
+            }
+            connection.finishReplay(missed, truncated);
+        } catch (RuntimeException e) {
+            connection.close();
+            throw e;
+        }
+        return emitter;
+    }
+
+    @TransactionalEventListener
+    public void onMessageSent(MessageSentEvent event) {
+        Set<MessageStreamConnection> receivers = connections.get(event.getReceiverId());
+        if (receivers == null || receivers.isEmpty()) {
+            return;
+        }
+        messageRepository.findDtoById(event.getMessageId())
+                .ifPresent(message -> receivers.forEach(connection -> connection.deliver(message)));
+    }
+
+    // 다른 인스턴스에서 보낸 쪽지를 이 인스턴스에 연결된 수신자에게 전달
+    @Scheduled(fixedDelayString = "${message-stream.poll-interval:2000}")
+    public void poll() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime since = (polledAt == null ? now : polledAt).minus(pollOverlap);
+        List<Integer> receiverIds = new ArrayList<>(connections.keySet());
+        for (int from = 0; from < receiverIds.size(); from += POLL_CHUNK_SIZE) {
+            List<Integer> chunk = receiverIds.subList(from, Math.min(from + POLL_CHUNK_SIZE, receiverIds.size()));
+            messageRepository.findInboxOfReceiversSince(chunk, since).forEach((message) -> {
+                Set<MessageStreamConnection> receivers = connections.get(message.getReceiverId());
+                if (receivers != null) {
+                    receivers.forEach((connection) -> connection.deliver(message));
+                }
+            });
+        }
+        polledAt = now;
+    }
+
+    // 프록시가 유휴 연결을 끊지 않도록 주기적으로 주석 이벤트 전송 (끊긴 연결 정리도 겸함)
+    // 한 이벤트를 send-timeout 넘게 보내고 있는 연결(소켓 버퍼가 찬 채 멈춘 클라이언트)은 끊음
+    @Scheduled(fixedDelayString = "${message-stream.heartbeat-interval:15000}")
+    public void heartbeat() {
+        long now = System.currentTimeMillis();
+        connections.values().forEach(set -> set.forEach((connection) -> {
+            if (connection.isStalled(now, sendTimeoutMillis)) {
+                log.info("SSE 전송이 {}ms 넘게 멈춰 연결 종료 (userId={})", sendTimeoutMillis, connection.getUserId());
+                connection.abort();
+            } else {
+                connection.heartbeat();
+            }
+        }));
+    }
+
+    public int getConnectionCount() {
+        return connectionCount.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        connections.values().forEach(set -> set.forEach(MessageStreamConnection::close));
+        sender.shutdown();
+    }
+
+    private void remove(Integer userId) {
+        connectionCount.decrementAndGet();
+        connections.computeIfPresent(userId, (id, set) -> {
+            set.removeIf(MessageStreamConnection::isClosed);
+            return set.isEmpty() ? null : set;
+        });
+    }
+}
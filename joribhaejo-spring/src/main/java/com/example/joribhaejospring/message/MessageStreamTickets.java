@@ -0,0 +1,68 @@
+package com.example.joribhaejospring.message;
+
+import com.example.joribhaejospring.common.JwtUtil;
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+// SSE 연결용 일회용 티켓: EventSource는 헤더를 못 보내므로 access 토큰 대신 짧게 유효한 티켓을 쿼리로 전달
+// (쿼리 문자열은 접근 로그에 남으므로 재사용 가능한 토큰을 싣지 않음)
+// 티켓은 서명된 JWT라 어느 인스턴스에서 발급했든 검증 가능, 사용한 티켓 id는 만료될 때까지 기억해 같은 인스턴스에서 재사용을 막음
+// (인스턴스가 여럿이면 유출된 티켓을 유효 시간 안에 다른 인스턴스에서 한 번 더 쓸 수 있으므로 유효 시간을 짧게 유지)
+@Component
+public class MessageStreamTickets {
+    private final JwtUtil jwtUtil;
+    private final Clock clock;
+    private final long ttlMillis;
+    // 사용한 티켓 id → 만료 시각
+    private final ConcurrentHashMap<String, Long> redeemed = new ConcurrentHashMap<>();
+
+    @Autowired
+    public MessageStreamTickets(JwtUtil jwtUtil, @Value("${message-stream.ticket-ttl:30s}") Duration ttl) {
+        this(jwtUtil, Clock.systemDefaultZone(), ttl);
+    }
+
+    MessageStreamTickets(JwtUtil jwtUtil, Clock clock, Duration ttl) {
+        this.jwtUtil = jwtUtil;
+        this.clock = clock;
+        this.ttlMillis = ttl.toMillis();
+    }
+
+    public String issue(Integer userId) {
+        return jwtUtil.generateStreamTicket(userId, UUID.randomUUID().toString(),
+                new Date(clock.millis() + ttlMillis));
+    }
+
+    // 한 번 쓰면 폐기, 만료됐거나 위조된 티켓이면 empty
+    public Optional<Integer> redeem(String ticket) {
+        Claims claims = ticket == null ? null : jwtUtil.parseClaims(ticket);
+        if (claims == null || !jwtUtil.isStreamTicket(claims) || claims.getId() == null) {
+            return Optional.empty();
+        }
+        long expiresAt = claims.getExpiration().getTime();
+        if (expiresAt < clock.millis() || redeemed.putIfAbsent(claims.getId(), expiresAt) != null) {
+            return Optional.empty();
+        }
+        return Optional.of(Integer.parseInt(claims.getSubject()));
+    }
+
+    // 만료된 티켓은 서명 검증에서 거절되므로 더 기억할 필요 없음
+    @Scheduled(fixedDelayString = "${message-stream.ticket-cleanup-interval:60000}")
+    public void evictExpired() {
+        long now = clock.millis();
+        redeemed.values().removeIf((expiresAt) -> expiresAt < now);
+    }
+
+    int size() {
+        return redeemed.size();
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.joribhaejospring.message;
+
+import com.example.joribhaejospring.user.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// users.unread_message_count가 messages.is_read와 어긋난 경우 사용자 id 구간 단위로 다시 계산
+// (업그레이드 이전 데이터, 카운터 갱신 없이 지워진 쪽지 등)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UnreadMessageCountReconciler {
+    private final UserRepository userRepository;
+
+    @Value("${unread-message-count.reconcile-chunk-size:1000}")
+    private int chunkSize;
+
+    // 구간마다 별도 트랜잭션으로 실행되어 잠금 범위가 chunkSize 행으로 제한됨
+    @Scheduled(cron = "${unread-message-count.reconcile-cron:0 30 4 * * *}")
+    public void reconcile() {
+        int maxId = userRepository.findMaxId();
+        int fixed = 0;
+        for (int fromId = 0; fromId < maxId; fromId += chunkSize) {
+            fixed += userRepository.reconcileUnreadMessageCounts(fromId, fromId + chunkSize);
+        }
+
+        log.info("unread_message_count 보정 완료: 사용자 {}건", fixed);
+    }
+}
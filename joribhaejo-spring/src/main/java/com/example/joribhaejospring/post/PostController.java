@@ -1,15 +1,22 @@
 package com.example.joribhaejospring.post;
 
+import com.example.joribhaejospring.common.HttpCaching;
+import com.example.joribhaejospring.common.PageLimits;
+import com.example.joribhaejospring.common.ratelimit.RateLimited;
+import com.example.joribhaejospring.post.dto.CursorResponse;
 import com.example.joribhaejospring.post.dto.PageResponse;
 import com.example.joribhaejospring.post.dto.PostCreateRequest;
 import com.example.joribhaejospring.post.dto.PostResponse;
+import com.example.joribhaejospring.post.dto.PostSummaryResponse;
 import com.example.joribhaejospring.post.dto.PostUpdateRequest;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/posts")
@@ -19,17 +26,47 @@ public class PostController {
 
     @Operation(
             summary = "게시글 목록 조회",
-            description = ""
+            description = "목록에는 본문 대신 앞부분 excerpt만 포함 (excerpt=false면 생략)"
     )
     @GetMapping
-    public ResponseEntity<PageResponse<PostResponse>> getPosts(
+    public ResponseEntity<PageResponse<PostSummaryResponse>> getPosts(
             @RequestParam Integer boardId,
             @RequestParam(required = false) String search,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
-            @RequestParam(required = false) Post.PostCategory category
+            @RequestParam(required = false) Post.PostCategory category,
+            @RequestParam(defaultValue = "true") boolean excerpt,
+            WebRequest webRequest
+    ) {
+        PageRequest pageable = PageRequest.of(PageLimits.checkPage(page), PageLimits.checkSize(size));
+        String etag = postService.getPostsEtag(boardId, search, category, excerpt, pageable);
+        // 바뀐 게 없으면 목록 조회·직렬화 없이 304
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return HttpCaching.notModified(etag, HttpCaching.revalidate(), HttpHeaders.AUTHORIZATION);
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .cacheControl(HttpCaching.revalidate())
+                .varyBy(HttpHeaders.AUTHORIZATION);
+        if (etag != null) {
+            response.eTag(etag);
+        }
+        return response.body(postService.getPosts(boardId, search, category, excerpt, pageable));
+    }
+
+    @Operation(
+            summary = "게시글 목록 조회 (커서)",
+            description = "cursor 없이 호출하면 첫 페이지, 이후에는 응답의 nextCursor를 전달"
+    )
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorResponse<PostSummaryResponse>> getPostsByCursor(
+            @RequestParam Integer boardId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) Post.PostCategory category,
+            @RequestParam(defaultValue = "true") boolean excerpt
     ) {
-        return ResponseEntity.ok(postService.getPosts(boardId, search, category, PageRequest.of(page, size)));
+        return ResponseEntity.ok(postService.getPostsByCursor(boardId, category, cursor, size, excerpt));
     }
 
     @Operation(
@@ -38,7 +75,9 @@ public class PostController {
     )
     @GetMapping("/{postId}")
     public ResponseEntity<PostResponse> getPost(@PathVariable Integer postId) {
-        return ResponseEntity.ok(postService.getPostAndIncreaseViewCount(postId));
+        return ResponseEntity.ok()
+                .cacheControl(HttpCaching.noStore())
+                .body(postService.getPostAndIncreaseViewCount(postId));
     }
 
     @Operation(
@@ -47,6 +86,7 @@ public class PostController {
             security = @SecurityRequirement(name = "Authorization")
     )
     @PostMapping
+    @RateLimited("posts")
     public ResponseEntity<PostResponse> createPost(@RequestBody PostCreateRequest request) {
         return ResponseEntity.ok(postService.createPost(request));
     }
@@ -57,6 +97,7 @@ public class PostController {
             security = @SecurityRequirement(name = "Authorization")
     )
     @PutMapping("/{postId}")
+    @RateLimited("posts")
     public ResponseEntity<String> updatePost(@PathVariable Integer postId, @RequestBody PostUpdateRequest request) {
         postService.updatePost(postId, request);
         return ResponseEntity.ok("게시글 수정 성공");
@@ -1,21 +1,134 @@
 package com.example.joribhaejospring.post;
 
-import jakarta.persistence.LockModeType;
-import lombok.NonNull;
+import com.example.joribhaejospring.common.ContentVersion;
+import com.example.joribhaejospring.post.dto.PostSummaryResponse;
+import com.example.joribhaejospring.post.trending.TrendingSeed;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface PostRepository extends JpaRepository<Post, Integer> {
-    Page<Post> findByBoardIdAndCategoryAndTitleContainingIgnoreCase(Integer boardId, Post.PostCategory category, String s, Pageable pageable);
+    // 목록용 요약 프로젝션: 본문(TEXT) 대신 앞부분 일부만 전송, 작성자는 join으로 함께 조회
+    // excerptLength가 0이면 excerpt는 null (응답에서 필드 자체가 빠짐)
+    String SUMMARY_SELECT = "select new com.example.joribhaejospring.post.dto.PostSummaryResponse(" +
+            "p.id, p.board.id, a.id, a.username, p.title, " +
+            "case when :excerptLength > 0 then substring(p.content, 1, :excerptLength) else null end, " +
+            "p.category, p.viewCount, p.likeCount, p.createdAt, p.updatedAt) " +
+            "from Post p join p.author a ";
 
-    Page<Post> findByBoardIdAndTitleContainingIgnoreCase(Integer boardId, String keyword, Pageable pageable);
+    String BOARD_AND_CATEGORY = "p.board.id = :boardId and (:category is null or p.category = :category) ";
 
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    Optional<Post> findById(@NonNull Integer id);
+    String TITLE_CONTAINS = "and lower(p.title) like lower(concat('%', :#{escape(#keyword)}, '%')) escape :#{escapeCharacter()} ";
+
+    @Query(value = SUMMARY_SELECT + "where " + BOARD_AND_CATEGORY + TITLE_CONTAINS,
+            countQuery = "select count(p) from Post p where " + BOARD_AND_CATEGORY + TITLE_CONTAINS)
+    Page<PostSummaryResponse> findSummaries(@Param("boardId") Integer boardId,
+                                            @Param("category") Post.PostCategory category,
+                                            @Param("keyword") String keyword,
+                                            @Param("excerptLength") int excerptLength,
+                                            Pageable pageable);
+
+    // 목록 ETag용: 좋아요·조회수 반영도 updated_at을 갱신하므로 함께 감지 (idx_posts_board_category_updated만으로 계산)
+    @Query("select new com.example.joribhaejospring.common.ContentVersion(count(p), max(p.updatedAt), local datetime) " +
+            "from Post p where " + BOARD_AND_CATEGORY)
+    ContentVersion findListVersion(@Param("boardId") Integer boardId, @Param("category") Post.PostCategory category);
+
+    @Query(SUMMARY_SELECT + "where p.id in :ids")
+    List<PostSummaryResponse> findSummariesByIdIn(@Param("ids") Collection<Integer> ids,
+                                                  @Param("excerptLength") int excerptLength);
+
+    // 키셋 페이지네이션: 첫 페이지
+    @Query(SUMMARY_SELECT + "where " + BOARD_AND_CATEGORY +
+            "order by p.createdAt desc, p.id desc")
+    List<PostSummaryResponse> findFirstSlice(@Param("boardId") Integer boardId,
+                                             @Param("category") Post.PostCategory category,
+                                             @Param("excerptLength") int excerptLength,
+                                             Pageable pageable);
+
+    // 키셋 페이지네이션: (createdAt, id) 커서 이후
+    @Query(SUMMARY_SELECT + "where " + BOARD_AND_CATEGORY +
+            "and (p.createdAt < :createdAt or (p.createdAt = :createdAt and p.id < :id)) " +
+            "order by p.createdAt desc, p.id desc")
+    List<PostSummaryResponse> findSliceAfter(@Param("boardId") Integer boardId,
+                                             @Param("category") Post.PostCategory category,
+                                             @Param("createdAt") LocalDateTime createdAt,
+                                             @Param("id") Integer id,
+                                             @Param("excerptLength") int excerptLength,
+                                             Pageable pageable);
+
+    // 활동 피드: 작성한 게시글 (idx_posts_author_created)
+    @Query(SUMMARY_SELECT + "where a.id = :authorId order by p.createdAt desc, p.id desc")
+    List<PostSummaryResponse> findAuthoredFirstSlice(@Param("authorId") Integer authorId,
+                                                     @Param("excerptLength") int excerptLength,
+                                                     Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "where a.id = :authorId " +
+            "and (p.createdAt < :createdAt or (p.createdAt = :createdAt and p.id < :id)) " +
+            "order by p.createdAt desc, p.id desc")
+    List<PostSummaryResponse> findAuthoredSliceAfter(@Param("authorId") Integer authorId,
+                                                     @Param("createdAt") LocalDateTime createdAt,
+                                                     @Param("id") Integer id,
+                                                     @Param("excerptLength") int excerptLength,
+                                                     Pageable pageable);
+
+    // 인기 순위 적재용 누적 반응 (댓글 수는 post_id FK 인덱스로 집계)
+    String TRENDING_SEED_SELECT = "select new com.example.joribhaejospring.post.trending.TrendingSeed(" +
+            "p.id, p.board.id, p.category, p.createdAt, p.viewCount, p.likeCount, " +
+            "(select count(c) from Comment c where c.post.id = p.id)) " +
+            "from Post p ";
+
+    @Query(TRENDING_SEED_SELECT + "where p.createdAt >= :since")
+    List<TrendingSeed> findTrendingSeedsSince(@Param("since") LocalDateTime since);
+
+    @Query(TRENDING_SEED_SELECT + "where p.id = :postId")
+    Optional<TrendingSeed> findTrendingSeed(@Param("postId") Integer postId);
+
+    // 게시판 일괄 삭제용 id 청크 조회 (idx_posts_board_created 사용)
+    @Query("select p.id from Post p where p.board.id = :boardId order by p.createdAt, p.id")
+    List<Integer> findIdsByBoardId(@Param("boardId") Integer boardId, Pageable pageable);
+
+    long countByBoardId(Integer boardId);
+
+    @Modifying
+    @Query("delete from Post p where p.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<Integer> ids);
+
+    // 검색 색인 재구성용 id 순 청크 조회
+    List<Post> findByIdGreaterThanOrderByIdAsc(Integer id, Pageable pageable);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "posts"))
+    @Query(value = "UPDATE posts SET like_count = like_count + :delta WHERE id = :postId", nativeQuery = true)
+    int addLikeCount(@Param("postId") Integer postId, @Param("delta") int delta);
+
+    @Query("select p.likeCount from Post p where p.id = :postId")
+    Optional<Integer> findLikeCount(@Param("postId") Integer postId);
+
+    @Query("select coalesce(max(p.id), 0) from Post p")
+    Integer findMaxId();
+
+    // (fromId, toId] 구간에서 likes 테이블과 어긋난 like_count만 다시 계산
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "posts"))
+    @Query(value = "UPDATE posts p " +
+            "SET p.like_count = (SELECT COUNT(*) FROM likes l WHERE l.target_type = 'POST' AND l.target_id = p.id) " +
+            "WHERE p.id > :fromId AND p.id <= :toId " +
+            "AND p.like_count <> (SELECT COUNT(*) FROM likes l WHERE l.target_type = 'POST' AND l.target_id = p.id)",
+            nativeQuery = true)
+    int reconcileLikeCounts(@Param("fromId") int fromId, @Param("toId") int toId);
 }
@@ -2,68 +2,183 @@ package com.example.joribhaejospring.post;
 
 import com.example.joribhaejospring.board.Board;
 import com.example.joribhaejospring.board.BoardRepository;
+import com.example.joribhaejospring.board.BoardService;
+import com.example.joribhaejospring.common.ContentVersion;
+import com.example.joribhaejospring.common.HttpCaching;
+import com.example.joribhaejospring.common.KeysetCursor;
+import com.example.joribhaejospring.common.PageLimits;
 import com.example.joribhaejospring.like.Like;
-import com.example.joribhaejospring.like.LikeRepository;
+import com.example.joribhaejospring.like.LikeService;
+import com.example.joribhaejospring.post.dto.CursorResponse;
 import com.example.joribhaejospring.post.dto.PageResponse;
 import com.example.joribhaejospring.post.dto.PostCreateRequest;
 import com.example.joribhaejospring.post.dto.PostResponse;
+import com.example.joribhaejospring.post.dto.PostSummaryResponse;
 import com.example.joribhaejospring.post.dto.PostUpdateRequest;
+import com.example.joribhaejospring.post.search.PostChangedEvent;
+import com.example.joribhaejospring.post.search.PostSearchIndex;
+import com.example.joribhaejospring.post.trending.TrendingPostRanker;
 import com.example.joribhaejospring.user.User;
 import lombok.RequiredArgsConstructor;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class PostService {
     private final PostRepository postRepository;
     private final BoardRepository boardRepository;
-    private final LikeRepository likeRepository;
+    private final BoardService boardService;
+    private final ViewCountBuffer viewCountBuffer;
+    private final PostSearchIndex postSearchIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final LikeService likeService;
+    private final TrendingPostRanker trendingPostRanker;
+
+    // 목록 응답의 본문 미리보기 길이
+    static final int EXCERPT_LENGTH = 100;
 
     // 게시글 목록 조회 (검색, 필터)
     @Transactional(readOnly = true)
-    public PageResponse<PostResponse> getPosts(Integer boardId, String search, Post.PostCategory category, Pageable pageable) {
+    public PageResponse<PostSummaryResponse> getPosts(Integer boardId, String search, Post.PostCategory category,
+                                                      boolean excerpt, Pageable pageable) {
         String keyword = (search == null) ? "" : search;
+        int excerptLength = excerptLength(excerpt);
 
-        Page<Post> page;
-        if (category == null) {
-            // 카테고리 조건 없이 조회
-            page = postRepository.findByBoardIdAndTitleContainingIgnoreCase(boardId, keyword, pageable);
+        Page<PostSummaryResponse> page;
+        if (!keyword.isBlank() && postSearchIndex.isReady()) {
+            // 제목+본문 색인 검색
+            page = searchPosts(boardId, category, keyword, excerptLength, pageable);
         } else {
-            page = postRepository.findByBoardIdAndCategoryAndTitleContainingIgnoreCase(boardId, category, keyword, pageable);
+            page = postRepository.findSummaries(boardId, category, keyword, excerptLength, pageable);
         }
 
-        Page<PostResponse> responsePage = page.map((post) -> {
-            Integer likeCount = likeRepository.countByTargetTypeAndTargetId(Like.TargetType.POST, post.getId());
-            return PostResponse.fromEntity(post, likeCount);
-        });
+        RoaringBitmap likedPosts = likeService.findLikedSetOfCurrentUser(Like.TargetType.POST).orElse(null);
+        return PageResponse.fromPage(page.map(post -> decorate(post, likedPosts)));
+    }
+
+    // 목록 ETag: 게시판(+카테고리) 게시글 수와 마지막 수정 시각, 요청 조건, 로그인 사용자(likedByMe)로 계산
+    // 같은 초 안에 변경이 있었으면 null (다음 요청에서 발급), 반영 대기 중인 조회수는 flush 후에 반영됨
+    @Transactional(readOnly = true)
+    public String getPostsEtag(Integer boardId, String search, Post.PostCategory category, boolean excerpt, Pageable pageable) {
+        ContentVersion version = postRepository.findListVersion(boardId, category);
+        if (!version.isSettled()) {
+            return null;
+        }
 
-        return PageResponse.fromPage(responsePage);
+        String keyword = (search == null) ? "" : search;
+        boolean indexed = !keyword.isBlank() && postSearchIndex.isReady();
+        return HttpCaching.weakEtag("posts", boardId, category, keyword, indexed, excerpt,
+                pageable.getPageNumber(), pageable.getPageSize(), getCurrentUserIdOrNull(),
+                version.getCount(), version.getLastUpdatedAt());
     }
 
-    // 게시글 상세 조회 + 조회수 증가
-    @Transactional
+    // 색인에서 찾은 id 순서대로 게시글을 조회 (색인 반영 직후 삭제된 게시글은 제외)
+    private Page<PostSummaryResponse> searchPosts(Integer boardId, Post.PostCategory category, String keyword,
+                                                  int excerptLength, Pageable pageable) {
+        Page<Integer> postIds = postSearchIndex.search(boardId, category, keyword, pageable);
+        if (postIds.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        Map<Integer, PostSummaryResponse> posts = postRepository.findSummariesByIdIn(postIds.getContent(), excerptLength).stream()
+                .collect(Collectors.toMap(PostSummaryResponse::getId, Function.identity()));
+        List<PostSummaryResponse> ordered = postIds.getContent().stream()
+                .map(posts::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new PageImpl<>(ordered, pageable, postIds.getTotalElements());
+    }
+
+    // 게시글 목록 조회 (커서 기반, 전체 개수 조회 없음)
+    @Transactional(readOnly = true)
+    public CursorResponse<PostSummaryResponse> getPostsByCursor(Integer boardId, Post.PostCategory category, String cursor,
+                                                                int size, boolean excerpt) {
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        Pageable limit = PageRequest.of(0, PageLimits.checkSize(size) + 1);
+        int excerptLength = excerptLength(excerpt);
+
+        List<PostSummaryResponse> posts;
+        if (cursor == null) {
+            posts = postRepository.findFirstSlice(boardId, category, excerptLength, limit);
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            posts = postRepository.findSliceAfter(boardId, category, after.getCreatedAt(), after.getId(), excerptLength, limit);
+        }
+
+        boolean hasNext = posts.size() > size;
+        List<PostSummaryResponse> slice = hasNext ? posts.subList(0, size) : posts;
+
+        String nextCursor = null;
+        if (hasNext) {
+            PostSummaryResponse last = slice.get(slice.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        RoaringBitmap likedPosts = likeService.findLikedSetOfCurrentUser(Like.TargetType.POST).orElse(null);
+        List<PostSummaryResponse> content = slice.stream()
+                .map(post -> decorate(post, likedPosts))
+                .toList();
+        return CursorResponse.of(content, nextCursor);
+    }
+
+    // 게시판 인기 게시글 (순위는 메모리 스냅샷에서, 내용은 id 목록으로 한 번에 조회)
+    @Transactional(readOnly = true)
+    public List<PostSummaryResponse> getTrendingPosts(Integer boardId, Post.PostCategory category, int size, boolean excerpt) {
+        boardService.getBoard(boardId);
+
+        List<Integer> postIds = trendingPostRanker.getTopPostIds(boardId, category, size);
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Integer, PostSummaryResponse> posts = postRepository.findSummariesByIdIn(postIds, excerptLength(excerpt)).stream()
+                .collect(Collectors.toMap(PostSummaryResponse::getId, Function.identity()));
+        RoaringBitmap likedPosts = likeService.findLikedSetOfCurrentUser(Like.TargetType.POST).orElse(null);
+        return postIds.stream()
+                .map(posts::get)
+                .filter(Objects::nonNull)
+                .map(post -> decorate(post, likedPosts))
+                .toList();
+    }
+
+    // 게시글 상세 조회 + 조회수 증가 (증가분은 ViewCountBuffer가 모아서 주기적으로 반영)
+    @Transactional(readOnly = true)
     public PostResponse getPostAndIncreaseViewCount(Integer postId) {
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new NoSuchElementException("Post not found"));
 
-        post.setViewCount(post.getViewCount() + 1);
-        Integer likeCount = likeRepository.countByTargetTypeAndTargetId(Like.TargetType.POST, postId);
-        return PostResponse.fromEntity(postRepository.save(post), likeCount);
+        viewCountBuffer.increment(postId);
+        trendingPostRanker.recordView(postId, post.getBoard().getId(), post.getCategory());
+        Boolean likedByMe = likeService.findLikedSetOfCurrentUser(Like.TargetType.POST)
+                .map(likedPosts -> likedPosts.contains(postId))
+                .orElse(null);
+        return PostResponse.fromEntity(post, post.getLikeCount(), currentViewCount(post), likedByMe);
     }
 
     // 게시글 작성
     @Transactional
     public PostResponse createPost(PostCreateRequest request) {
         User author = getCurrentUser();
-        Board board = boardRepository.findById(request.getBoardId())
-                .orElseThrow(() -> new NoSuchElementException("Board not found"));
+        // 존재 여부는 캐시로 확인하고 FK에는 프록시 참조만 사용
+        boardService.getBoard(request.getBoardId());
+        Board board = boardRepository.getReferenceById(request.getBoardId());
 
         Post post = Post.builder()
                 .board(board)
@@ -74,7 +189,9 @@ public class PostService {
                 .viewCount(0)
                 .build();
 
-        return PostResponse.fromEntity(postRepository.save(post), 0);
+        Post saved = postRepository.save(post);
+        eventPublisher.publishEvent(PostChangedEvent.saved(saved));
+        return PostResponse.fromEntity(saved, 0);
     }
 
     // 게시글 수정 (작성자만 가능)
@@ -92,6 +209,7 @@ public class PostService {
         post.setTitle(request.getTitle());
         post.setContent(request.getContent());
         postRepository.save(post);
+        eventPublisher.publishEvent(PostChangedEvent.saved(post));
     }
 
     // 게시글 삭제 (작성자만 가능)
@@ -106,7 +224,42 @@ public class PostService {
             throw new AccessDeniedException("Unauthorized");
         }
 
+        // 댓글은 FK CASCADE로 지워지지만 likes는 대상 FK가 없으므로 먼저 정리
+        likeService.deleteLikesOfPost(postId);
         postRepository.delete(post);
+        eventPublisher.publishEvent(PostChangedEvent.deleted(postId));
+    }
+
+    // DB 값 + 아직 반영되지 않은 조회수
+    private Integer currentViewCount(Post post) {
+        return Math.toIntExact(post.getViewCount() + viewCountBuffer.getPending(post.getId()));
+    }
+
+    // 반영 대기 중인 조회수, 좋아요 여부(로그인 시)가 있을 때만 새 객체 생성
+    private PostSummaryResponse decorate(PostSummaryResponse post, RoaringBitmap likedPosts) {
+        long pending = viewCountBuffer.getPending(post.getId());
+        if (pending == 0 && likedPosts == null) {
+            return post;
+        }
+
+        PostSummaryResponse.PostSummaryResponseBuilder builder = post.toBuilder();
+        if (pending != 0) {
+            builder.viewCount(Math.toIntExact(post.getViewCount() + pending));
+        }
+        if (likedPosts != null) {
+            builder.likedByMe(likedPosts.contains(post.getId()));
+        }
+        return builder.build();
+    }
+
+    // excerpt=false면 길이 0 → 프로젝션이 excerpt를 null로 채우고 응답에서 생략됨
+    private static int excerptLength(boolean excerpt) {
+        return excerpt ? EXCERPT_LENGTH : 0;
+    }
+
+    private Integer getCurrentUserIdOrNull() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.getPrincipal() instanceof User user ? user.getId() : null;
     }
 
     private User getCurrentUser() {
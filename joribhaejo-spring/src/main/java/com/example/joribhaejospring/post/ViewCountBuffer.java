@@ -0,0 +1,107 @@
+package com.example.joribhaejospring.post;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 조회수 증가분을 메모리에 모아 두었다가 주기적으로 한 번에 DB에 반영
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ViewCountBuffer {
+    private static final String FLUSH_SQL = "UPDATE posts SET view_count = view_count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ConcurrentHashMap<Integer, LongAdder> pending = new ConcurrentHashMap<>();
+    // synchronized로 JDBC 호출을 감싸면 가상 스레드가 캐리어 스레드에 고정(pinning)되므로 ReentrantLock 사용
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public void increment(Integer postId) {
+        add(postId, 1);
+    }
+
+    // 아직 DB에 반영되지 않은 조회수
+    public long getPending(Integer postId) {
+        LongAdder counter = pending.get(postId);
+        return counter == null ? 0 : counter.sum();
+    }
+
+    // 반영 대기 중인 게시글 수 (메트릭용)
+    public int getPendingPostCount() {
+        return pending.size();
+    }
+
+    @Scheduled(fixedDelayString = "${view-count.flush-interval:5000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            Map<Integer, Long> deltas = drain();
+            if (deltas.isEmpty()) {
+                return;
+            }
+
+            List<Object[]> batchArgs = new ArrayList<>(deltas.size());
+            deltas.forEach((postId, delta) -> batchArgs.add(new Object[]{delta, postId}));
+
+            try {
+                // 배치 일부만 반영된 채 실패하면 되돌려 놓은 증가분이 두 번 더해지므로 전부 반영되거나 전부 롤백되도록 트랜잭션으로 묶음
+                transactionTemplate.executeWithoutResult((status) -> jdbcTemplate.batchUpdate(FLUSH_SQL, batchArgs));
+            } catch (DataAccessException e) {
+                // 롤백되었으므로 다음 주기에 다시 시도하도록 전부 되돌려 놓음
+                log.warn("조회수 반영 실패 ({}건): {}", deltas.size(), e.getMessage());
+                deltas.forEach(this::add);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    Map<Integer, Long> drain() {
+        Map<Integer, Long> deltas = new HashMap<>();
+        pending.forEach((postId, counter) -> {
+            long delta = counter.sumThenReset();
+            // 한 주기 동안 조회가 없던 카운터는 제거, 제거 직전에 들어온 증가분은 회수
+            if (delta == 0 && pending.remove(postId, counter)) {
+                delta = counter.sumThenReset();
+            }
+            if (delta != 0) {
+                deltas.put(postId, delta);
+            }
+        });
+        return deltas;
+    }
+
+    private void add(Integer postId, long delta) {
+        LongAdder counter = pending.computeIfAbsent(postId, id -> new LongAdder());
+        counter.add(delta);
+
+        // drain 도중 카운터가 제거되었다면 아직 회수되지 않은 값을 새 카운터로 옮김
+        while (pending.get(postId) != counter) {
+            long orphan = counter.sumThenReset();
+            if (orphan == 0) {
+                return;
+            }
+            counter = pending.computeIfAbsent(postId, id -> new LongAdder());
+            counter.add(orphan);
+        }
+    }
+}
@@ -24,8 +24,18 @@ public class PostResponse {
     private Integer likeCount;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    // 로그인하지 않은 요청이면 null
+    private Boolean likedByMe;
 
     public static PostResponse fromEntity(Post post, Integer likeCount) {
+        return fromEntity(post, likeCount, post.getViewCount());
+    }
+
+    public static PostResponse fromEntity(Post post, Integer likeCount, Integer viewCount) {
+        return fromEntity(post, likeCount, viewCount, null);
+    }
+
+    public static PostResponse fromEntity(Post post, Integer likeCount, Integer viewCount, Boolean likedByMe) {
         return PostResponse.builder()
                 .id(post.getId())
                 .boardId(post.getBoard().getId())
@@ -34,10 +44,11 @@ public class PostResponse {
                 .title(post.getTitle())
                 .content(post.getContent())
                 .category(post.getCategory())
-                .viewCount(post.getViewCount())
+                .viewCount(viewCount)
                 .likeCount(likeCount)
                 .createdAt(post.getCreatedAt())
                 .updatedAt(post.getUpdatedAt())
+                .likedByMe(likedByMe)
                 .build();
     }
 }
@@ -0,0 +1,38 @@
+package com.example.joribhaejospring.post.dto;
+
+import com.example.joribhaejospring.post.Post;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 목록 조회용 응답 (본문 전체 대신 excerpt), PostRepository의 JPQL 생성자 표현식으로 직접 생성
+@Getter
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class PostSummaryResponse {
+    private Integer id;
+    private Integer boardId;
+    private Integer authorId;
+    private String author;
+    private String title;
+    // excerpt=false 요청이면 null, 응답에서 필드를 생략
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String excerpt;
+    private Post.PostCategory category;
+    private Integer viewCount;
+    private Integer likeCount;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    // 로그인하지 않은 요청이면 null
+    private Boolean likedByMe;
+
+    // PostRepository JPQL 생성자 표현식용
+    public PostSummaryResponse(Integer id, Integer boardId, Integer authorId, String author, String title, String excerpt,
+                               Post.PostCategory category, Integer viewCount, Integer likeCount,
+                               LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, boardId, authorId, author, title, excerpt, category, viewCount, likeCount, createdAt, updatedAt, null);
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.joribhaejospring.post.search;
+
+import java.text.Normalizer;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+// 공백·기호로 단어를 나눈 뒤 2글자 단위(bigram)로 자름, 형태소 분석 없이 한글 부분 일치 검색이 가능
+public final class NGramTokenizer {
+    private static final int GRAM_SIZE = 2;
+
+    private NGramTokenizer() {
+    }
+
+    // n-gram → 출현 횟수
+    public static Map<String, Integer> termFrequencies(String text) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        if (text == null || text.isEmpty()) {
+            return frequencies;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        int length = normalized.length();
+        int start = -1;
+        for (int i = 0; i <= length; i++) {
+            boolean letter = i < length && Character.isLetterOrDigit(normalized.charAt(i));
+            if (letter && start < 0) {
+                start = i;
+            } else if (!letter && start >= 0) {
+                addGrams(normalized, start, i, frequencies);
+                start = -1;
+            }
+        }
+        return frequencies;
+    }
+
+    private static void addGrams(String text, int start, int end, Map<String, Integer> frequencies) {
+        // 한 글자 단어는 그대로 색인
+        if (end - start < GRAM_SIZE) {
+            frequencies.merge(text.substring(start, end), 1, Integer::sum);
+            return;
+        }
+        for (int i = start; i + GRAM_SIZE <= end; i++) {
+            frequencies.merge(text.substring(i, i + GRAM_SIZE), 1, Integer::sum);
+        }
+    }
+}
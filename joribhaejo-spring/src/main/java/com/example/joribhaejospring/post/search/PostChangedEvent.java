@@ -0,0 +1,26 @@
+package com.example.joribhaejospring.post.search;
+
+import com.example.joribhaejospring.post.Post;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 게시글 작성/수정/삭제 커밋 후 검색 색인에 반영하기 위한 이벤트
+@Getter
+@AllArgsConstructor
+public class PostChangedEvent {
+    private final Integer postId;
+    private final Integer boardId;
+    private final Post.PostCategory category;
+    private final String title;
+    private final String content;
+    private final boolean deleted;
+
+    public static PostChangedEvent saved(Post post) {
+        return new PostChangedEvent(post.getId(), post.getBoard().getId(), post.getCategory(),
+                post.getTitle(), post.getContent(), false);
+    }
+
+    public static PostChangedEvent deleted(Integer postId) {
+        return new PostChangedEvent(postId, null, null, null, null, true);
+    }
+}
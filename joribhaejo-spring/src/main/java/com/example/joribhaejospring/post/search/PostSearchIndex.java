@@ -0,0 +1,375 @@
+package com.example.joribhaejospring.post.search;
+
+import com.example.joribhaejospring.post.Post;
+import com.example.joribhaejospring.post.PostRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 게시글 제목/본문 n-gram 역색인 (BM25 점수, 제목 가중치 적용)
+// 문서 길이는 제목 가중치를 반영한 n-gram 수, 평균보다 긴 글은 같은 빈도라도 점수가 낮아짐
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostSearchIndex {
+    private static final int TITLE_WEIGHT = 3;
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+
+    private final PostRepository postRepository;
+
+    @Value("${search.rebuild-chunk-size:1000}")
+    private int rebuildChunkSize;
+
+    // 재색인 실패 시 재시도 간격: 처음 값에서 두 배씩 늘려 최대값까지
+    @Value("${search.rebuild-retry-delay:10000}")
+    private long rebuildRetryDelay;
+
+    @Value("${search.rebuild-retry-max-delay:600000}")
+    private long rebuildRetryMaxDelay;
+
+    // 큰 테이블의 재색인이 다른 ApplicationReadyEvent 리스너와 readiness를 막지 않도록 전용 스레드에서 실행
+    private final ScheduledExecutorService rebuilder = Executors.newSingleThreadScheduledExecutor((runnable) -> {
+        Thread thread = new Thread(runnable, "post-search-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // rebuilder 스레드에서만 접근
+    private int failedRebuilds;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<Integer, IndexedPost> posts = new HashMap<>();
+    // 재색인 중 이벤트로 먼저 반영된 게시글 (재색인이 오래된 데이터로 덮어쓰지 않도록)
+    private Set<Integer> changedDuringRebuild;
+    private int generationSequence;
+    // 살아 있는 게시글 길이의 합 (평균 문서 길이 계산용)
+    private long totalLength;
+    private volatile boolean ready;
+
+    // 재색인이 끝나기 전에는 false, 이 때는 기존 LIKE 검색을 사용
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return posts.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void scheduleRebuild() {
+        rebuilder.execute(this::rebuildOrRetry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuilder.shutdownNow();
+    }
+
+    private void rebuildOrRetry() {
+        if (rebuild()) {
+            failedRebuilds = 0;
+            return;
+        }
+        long delay = Math.min(rebuildRetryMaxDelay, rebuildRetryDelay << Math.min(failedRebuilds, 20));
+        failedRebuilds++;
+        log.warn("게시글 검색 색인 {}회 실패, {}ms 후 다시 시도합니다.", failedRebuilds, delay);
+        rebuilder.schedule(this::rebuildOrRetry, delay, TimeUnit.MILLISECONDS);
+    }
+
+    // 성공하면 true, 실패하면 만들던 색인을 비우고 false (그동안 검색은 LIKE로 대체)
+    public boolean rebuild() {
+        lock.writeLock().lock();
+        try {
+            ready = false;
+            postings.clear();
+            posts.clear();
+            totalLength = 0;
+            changedDuringRebuild = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        long startedAt = System.currentTimeMillis();
+        try {
+            int lastId = 0;
+            List<Post> chunk;
+            do {
+                chunk = postRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, rebuildChunkSize));
+                lock.writeLock().lock();
+                try {
+                    for (Post post : chunk) {
+                        if (!changedDuringRebuild.contains(post.getId())) {
+                            put(post.getId(), post.getBoard().getId(), post.getCategory(), post.getTitle(), post.getContent());
+                        }
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                if (!chunk.isEmpty()) {
+                    lastId = chunk.get(chunk.size() - 1).getId();
+                }
+            } while (chunk.size() == rebuildChunkSize);
+        } catch (RuntimeException e) {
+            log.error("게시글 검색 색인 생성 실패, LIKE 검색으로 대체합니다: {}", e.getMessage());
+            lock.writeLock().lock();
+            try {
+                // 반쯤 만든 색인을 버리고, 재색인 중 변경 기록도 멈춤 (남겨 두면 이후 이벤트마다 계속 쌓임)
+                postings.clear();
+                posts.clear();
+                totalLength = 0;
+                changedDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return false;
+        }
+
+        lock.writeLock().lock();
+        try {
+            changedDuringRebuild = null;
+            ready = true;
+            log.info("게시글 검색 색인 완료: {}건, 색인어 {}개, {}ms",
+                    posts.size(), postings.size(), System.currentTimeMillis() - startedAt);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return true;
+    }
+
+    @TransactionalEventListener
+    public void onPostChanged(PostChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.add(event.getPostId());
+            }
+            if (event.isDeleted()) {
+                remove(event.getPostId());
+            } else {
+                put(event.getPostId(), event.getBoardId(), event.getCategory(), event.getTitle(), event.getContent());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 모든 검색어 n-gram을 포함한 게시글을 점수 순으로 반환
+    public Page<Integer> search(Integer boardId, Post.PostCategory category, String keyword, Pageable pageable) {
+        Set<String> terms = NGramTokenizer.termFrequencies(keyword).keySet();
+        if (terms.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        List<Candidate> ranked;
+        lock.readLock().lock();
+        try {
+            List<PostingList> lists = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                PostingList list = postings.get(term);
+                if (list == null) {
+                    return Page.empty(pageable);
+                }
+                lists.add(list);
+            }
+            // 가장 짧은 목록에서 후보를 뽑고 나머지 목록으로 걸러냄
+            lists.sort(Comparator.comparingInt(PostingList::liveSize));
+
+            float averageLength = Math.max(1f, (float) totalLength / Math.max(1, posts.size()));
+            Map<Integer, Candidate> candidates = new HashMap<>();
+            for (int l = 0; l < lists.size(); l++) {
+                PostingList list = lists.get(l);
+                float idf = idf(posts.size(), list.liveSize());
+                for (int i = 0; i < list.size; i++) {
+                    IndexedPost post = posts.get(list.postIds[i]);
+                    if (post == null || post.generation != list.generations[i]) {
+                        continue;
+                    }
+                    float score = idf * saturate(list.frequencies[i], post.length / averageLength);
+                    if (l == 0) {
+                        if (post.matches(boardId, category)) {
+                            candidates.put(list.postIds[i], new Candidate(list.postIds[i], score));
+                        }
+                    } else {
+                        Candidate candidate = candidates.get(list.postIds[i]);
+                        if (candidate != null && candidate.matched == l) {
+                            candidate.score += score;
+                            candidate.matched++;
+                        }
+                    }
+                }
+                int matched = l + 1;
+                candidates.values().removeIf((candidate) -> candidate.matched != matched);
+                if (candidates.isEmpty()) {
+                    return Page.empty(pageable);
+                }
+            }
+            ranked = new ArrayList<>(candidates.values());
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        ranked.sort(Comparator.comparingDouble((Candidate candidate) -> candidate.score).reversed()
+                .thenComparing(Comparator.comparingInt((Candidate candidate) -> candidate.postId).reversed()));
+
+        int from = (int) Math.min(pageable.getOffset(), ranked.size());
+        int to = Math.min(from + pageable.getPageSize(), ranked.size());
+        List<Integer> postIds = ranked.subList(from, to).stream()
+                .map((candidate) -> candidate.postId)
+                .toList();
+        return new PageImpl<>(postIds, pageable, ranked.size());
+    }
+
+    private void put(Integer postId, Integer boardId, Post.PostCategory category, String title, String content) {
+        remove(postId);
+
+        Map<String, Integer> frequencies = NGramTokenizer.termFrequencies(content);
+        NGramTokenizer.termFrequencies(title)
+                .forEach((term, count) -> frequencies.merge(term, count * TITLE_WEIGHT, Integer::sum));
+
+        int generation = ++generationSequence;
+        PostingList[] lists = new PostingList[frequencies.size()];
+        int index = 0;
+        int length = 0;
+        for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+            PostingList list = postings.computeIfAbsent(entry.getKey(), PostingList::new);
+            list.add(postId, entry.getValue(), generation);
+            lists[index++] = list;
+            length += entry.getValue();
+        }
+        posts.put(postId, new IndexedPost(boardId, category, generation, length, lists));
+        totalLength += length;
+    }
+
+    // 색인 항목은 바로 지우지 않고 stale로 표시, 절반 이상이 stale이면 목록을 압축
+    private void remove(Integer postId) {
+        IndexedPost old = posts.remove(postId);
+        if (old == null) {
+            return;
+        }
+        totalLength -= old.length;
+        for (PostingList list : old.postingLists) {
+            list.stale++;
+            if (list.stale * 2 > list.size) {
+                list.compact(posts);
+                if (list.size == 0) {
+                    postings.remove(list.term);
+                }
+            }
+        }
+    }
+
+    private static float idf(int totalPosts, int documentFrequency) {
+        return (float) Math.log(1 + (totalPosts - documentFrequency + 0.5) / (documentFrequency + 0.5));
+    }
+
+    // relativeLength: 문서 길이 / 평균 문서 길이
+    private static float saturate(int frequency, float relativeLength) {
+        return frequency * (K1 + 1) / (frequency + K1 * (1 - B + B * relativeLength));
+    }
+
+    private static final class IndexedPost {
+        private final Integer boardId;
+        private final Post.PostCategory category;
+        private final int generation;
+        private final int length;
+        private final PostingList[] postingLists;
+
+        private IndexedPost(Integer boardId, Post.PostCategory category, int generation, int length,
+                            PostingList[] postingLists) {
+            this.boardId = boardId;
+            this.category = category;
+            this.generation = generation;
+            this.length = length;
+            this.postingLists = postingLists;
+        }
+
+        private boolean matches(Integer boardId, Post.PostCategory category) {
+            return this.boardId.equals(boardId) && (category == null || this.category == category);
+        }
+    }
+
+    // (게시글 id, 빈도, 색인 세대)를 병렬 int 배열로 저장
+    private static final class PostingList {
+        private final String term;
+        private int[] postIds = new int[4];
+        private int[] frequencies = new int[4];
+        private int[] generations = new int[4];
+        private int size;
+        private int stale;
+
+        private PostingList(String term) {
+            this.term = term;
+        }
+
+        private int liveSize() {
+            return size - stale;
+        }
+
+        private void add(int postId, int frequency, int generation) {
+            if (size == postIds.length) {
+                int capacity = size * 2;
+                postIds = Arrays.copyOf(postIds, capacity);
+                frequencies = Arrays.copyOf(frequencies, capacity);
+                generations = Arrays.copyOf(generations, capacity);
+            }
+            postIds[size] = postId;
+            frequencies[size] = frequency;
+            generations[size] = generation;
+            size++;
+        }
+
+        private void compact(Map<Integer, IndexedPost> posts) {
+            int live = 0;
+            for (int i = 0; i < size; i++) {
+                IndexedPost post = posts.get(postIds[i]);
+                if (post != null && post.generation == generations[i]) {
+                    postIds[live] = postIds[i];
+                    frequencies[live] = frequencies[i];
+                    generations[live] = generations[i];
+                    live++;
+                }
+            }
+            size = live;
+            stale = 0;
+        }
+    }
+
+    private static final class Candidate {
+        private final int postId;
+        private float score;
+        private int matched = 1;
+
+        private Candidate(int postId, float score) {
+            this.postId = postId;
+            this.score = score;
+        }
+    }
+}
@@ -0,0 +1,272 @@
+package com.example.joribhaejospring.post.trending;
+
+import com.example.joribhaejospring.comment.CommentCreatedEvent;
+import com.example.joribhaejospring.like.Like;
+import com.example.joribhaejospring.like.LikeChangedEvent;
+import com.example.joribhaejospring.post.Post;
+import com.example.joribhaejospring.post.PostRepository;
+import com.example.joribhaejospring.post.search.PostChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 게시판(+카테고리)별 인기 게시글 순위 (조회·좋아요·댓글에 시간 감쇠 적용)
+// forward decay: 반응마다 가중치 × exp(λ(발생 시각 - 기준 시각))을 누적하므로 시간이 지나도 기존 점수를 다시 계산하지 않음
+// 점수 사이의 비율은 시간에 따라 변하지 않으므로 반응이 없던 게시판은 순위도 그대로 → 바뀐 게시판만 주기적으로 다시 계산
+@Slf4j
+@Component
+public class TrendingPostRanker {
+    // 기준 시각에서 반감기의 이 배수만큼 지나면 기준 시각을 옮겨 double 범위를 넘지 않게 함
+    private static final int REBASE_HALF_LIVES = 64;
+    private static final Comparator<TrackedScore> BY_SCORE = Comparator.comparingDouble(TrackedScore::score)
+            .thenComparingInt(TrackedScore::postId);
+
+    private final PostRepository postRepository;
+    private final Clock clock;
+    private final double lambda;
+    private final long rebaseAfterMillis;
+    private final int topK;
+    private final Duration seedWindow;
+    private final double viewWeight;
+    private final double likeWeight;
+    private final double commentWeight;
+    private final double pruneScore;
+
+    private final ConcurrentHashMap<Integer, TrackedPost> posts = new ConcurrentHashMap<>();
+    private final Set<Integer> dirtyBoards = ConcurrentHashMap.newKeySet();
+    // 점수 누적은 읽기 잠금으로 동시에 진행, 기준 시각 이동·정리만 쓰기 잠금
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private long landmark;
+    // (게시판, 카테고리) → 점수 내림차순 게시글 id, 통째로 교체되는 불변 스냅샷
+    private volatile Map<RankingKey, int[]> rankings = Map.of();
+
+    @Autowired
+    public TrendingPostRanker(
+            PostRepository postRepository,
+            @Value("${trending.half-life:6h}") Duration halfLife,
+            @Value("${trending.top-k:50}") int topK,
+            @Value("${trending.seed-window:3d}") Duration seedWindow,
+            @Value("${trending.weights.view:1}") double viewWeight,
+            @Value("${trending.weights.like:5}") double likeWeight,
+            @Value("${trending.weights.comment:3}") double commentWeight,
+            @Value("${trending.prune-score:0.05}") double pruneScore
+    ) {
+        this(postRepository, Clock.systemDefaultZone(), halfLife, topK, seedWindow,
+                viewWeight, likeWeight, commentWeight, pruneScore);
+    }
+
+    TrendingPostRanker(PostRepository postRepository, Clock clock, Duration halfLife, int topK, Duration seedWindow,
+                       double viewWeight, double likeWeight, double commentWeight, double pruneScore) {
+        this.postRepository = postRepository;
+        this.clock = clock;
+        this.lambda = Math.log(2) / halfLife.toMillis();
+        this.rebaseAfterMillis = halfLife.toMillis() * REBASE_HALF_LIVES;
+        this.topK = topK;
+        this.seedWindow = seedWindow;
+        this.viewWeight = viewWeight;
+        this.likeWeight = likeWeight;
+        this.commentWeight = commentWeight;
+        this.pruneScore = pruneScore;
+        this.landmark = clock.millis();
+    }
+
+    // 점수 내림차순 게시글 id (마지막 스냅샷 기준, 최대 top-k개)
+    public List<Integer> getTopPostIds(Integer boardId, Post.PostCategory category, int limit) {
+        int[] postIds = rankings.get(new RankingKey(boardId, category));
+        if (postIds == null || limit <= 0) {
+            return List.of();
+        }
+        return Arrays.stream(postIds, 0, Math.min(limit, postIds.length)).boxed().toList();
+    }
+
+    // 순위 계산 대상 게시글 수 (메트릭용)
+    public int size() {
+        return posts.size();
+    }
+
+    public void recordView(Integer postId, Integer boardId, Post.PostCategory category) {
+        record(postId, boardId, category, viewWeight, clock.millis());
+    }
+
+    @TransactionalEventListener
+    public void onLikeChanged(LikeChangedEvent event) {
+        if (event.getTargetType() != Like.TargetType.POST) {
+            return;
+        }
+        double weight = event.isLiked() ? likeWeight : -likeWeight;
+        TrackedPost tracked = posts.get(event.getTargetId());
+        if (tracked != null) {
+            record(tracked.postId, tracked.boardId, tracked.category, weight, clock.millis());
+            return;
+        }
+        // 오래되어 추적하지 않던 게시글이면 누적 반응부터 반영 (작성 시각 기준이라 대부분 감쇠되어 있음)
+        postRepository.findTrendingSeed(event.getTargetId()).ifPresent((seed) -> {
+            track(seed);
+            record(seed.getPostId(), seed.getBoardId(), seed.getCategory(), weight, clock.millis());
+        });
+    }
+
+    @TransactionalEventListener
+    public void onCommentCreated(CommentCreatedEvent event) {
+        record(event.getPostId(), event.getBoardId(), event.getCategory(), commentWeight, clock.millis());
+    }
+
+    @TransactionalEventListener
+    public void onPostChanged(PostChangedEvent event) {
+        if (!event.isDeleted()) {
+            return;
+        }
+        TrackedPost removed = posts.remove(event.getPostId());
+        if (removed != null) {
+            dirtyBoards.add(removed.boardId);
+        }
+    }
+
+    // 최근 게시글의 누적 조회·좋아요·댓글 수를 작성 시각에 발생한 것으로 보고 적재
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        List<TrendingSeed> seeds = postRepository.findTrendingSeedsSince(LocalDateTime.now(clock).minus(seedWindow));
+        seeds.forEach(this::track);
+        log.info("인기 게시글 순위 초기 적재: {}건", seeds.size());
+    }
+
+    @Scheduled(fixedDelayString = "${trending.snapshot-interval:10000}")
+    public void snapshot() {
+        long now = clock.millis();
+        lock.writeLock().lock();
+        try {
+            if (now - landmark > rebaseAfterMillis) {
+                rebase(now);
+            }
+            // 현재 시점으로 환산한 점수가 너무 작아진 게시글은 추적 중단
+            double minScore = pruneScore * growth(now);
+            posts.values().removeIf((post) -> {
+                if (post.score.sum() >= minScore) {
+                    return false;
+                }
+                dirtyBoards.add(post.boardId);
+                return true;
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        // 표시를 먼저 지우고 점수를 읽으므로, 그 사이 들어온 반응은 다음 스냅샷에 반영됨
+        Set<Integer> boards = new HashSet<>();
+        for (Iterator<Integer> iterator = dirtyBoards.iterator(); iterator.hasNext(); ) {
+            boards.add(iterator.next());
+            iterator.remove();
+        }
+        if (boards.isEmpty()) {
+            return;
+        }
+
+        // 게시판 전체와 카테고리별로 크기 top-k인 최소 힙 유지
+        Map<RankingKey, PriorityQueue<TrackedScore>> heaps = new HashMap<>();
+        for (TrackedPost post : posts.values()) {
+            if (!boards.contains(post.boardId)) {
+                continue;
+            }
+            TrackedScore entry = new TrackedScore(post.postId, post.score.sum());
+            offer(heaps.computeIfAbsent(new RankingKey(post.boardId, null), (key) -> new PriorityQueue<>(BY_SCORE)), entry);
+            if (post.category != null) {
+                offer(heaps.computeIfAbsent(new RankingKey(post.boardId, post.category), (key) -> new PriorityQueue<>(BY_SCORE)), entry);
+            }
+        }
+
+        Map<RankingKey, int[]> next = new HashMap<>(rankings);
+        next.keySet().removeIf((key) -> boards.contains(key.boardId()));
+        heaps.forEach((key, heap) -> next.put(key, drainDescending(heap)));
+        rankings = Map.copyOf(next);
+    }
+
+    private void track(TrendingSeed seed) {
+        double weight = seed.getViewCount() * viewWeight
+                + seed.getLikeCount() * likeWeight
+                + seed.getCommentCount() * commentWeight;
+        long createdAt = seed.getCreatedAt().atZone(clock.getZone()).toInstant().toEpochMilli();
+        record(seed.getPostId(), seed.getBoardId(), seed.getCategory(), weight, createdAt);
+    }
+
+    private void record(Integer postId, Integer boardId, Post.PostCategory category, double weight, long at) {
+        lock.readLock().lock();
+        try {
+            TrackedPost post = posts.computeIfAbsent(postId, (id) -> new TrackedPost(id, boardId, category));
+            post.score.add(weight * Math.exp(lambda * (at - landmark)));
+            dirtyBoards.add(post.boardId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 모든 점수에 같은 비율을 곱하므로 순위는 변하지 않음
+    private void rebase(long now) {
+        double factor = Math.exp(-lambda * (now - landmark));
+        for (TrackedPost post : posts.values()) {
+            double scaled = post.score.sumThenReset() * factor;
+            post.score.add(scaled);
+        }
+        landmark = now;
+    }
+
+    private double growth(long now) {
+        return Math.exp(lambda * (now - landmark));
+    }
+
+    private void offer(PriorityQueue<TrackedScore> heap, TrackedScore entry) {
+        if (heap.size() < topK) {
+            heap.add(entry);
+        } else if (BY_SCORE.compare(entry, heap.peek()) > 0) {
+            heap.poll();
+            heap.add(entry);
+        }
+    }
+
+    private static int[] drainDescending(PriorityQueue<TrackedScore> heap) {
+        int[] postIds = new int[heap.size()];
+        for (int i = postIds.length - 1; i >= 0; i--) {
+            postIds[i] = heap.poll().postId();
+        }
+        return postIds;
+    }
+
+    private static final class TrackedPost {
+        private final int postId;
+        private final int boardId;
+        private final Post.PostCategory category;
+        private final DoubleAdder score = new DoubleAdder();
+
+        private TrackedPost(int postId, int boardId, Post.PostCategory category) {
+            this.postId = postId;
+            this.boardId = boardId;
+            this.category = category;
+        }
+    }
+
+    private record TrackedScore(int postId, double score) {
+    }
+
+    private record RankingKey(int boardId, Post.PostCategory category) {
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.joribhaejospring.post.trending;
+
+import com.example.joribhaejospring.post.Post;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 인기 순위 초기 적재용 게시글 누적 반응, PostRepository의 JPQL 생성자 표현식으로 직접 생성
+@Getter
+@AllArgsConstructor
+public class TrendingSeed {
+    private Integer postId;
+    private Integer boardId;
+    private Post.PostCategory category;
+    private LocalDateTime createdAt;
+    private Integer viewCount;
+    private Integer likeCount;
+    private Long commentCount;
+}
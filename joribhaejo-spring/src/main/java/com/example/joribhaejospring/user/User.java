@@ -1,6 +1,10 @@
 package com.example.joribhaejospring.user;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -9,8 +13,12 @@ import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 
+// 인증 요청마다 id로, 로그인·쪽지 전송 시 username으로 조회되므로 2차 캐시에 보관 (region 설정은 application.conf)
 @Entity
 @Table(name = "users")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
+@NaturalIdCache(region = "users-natural-id")
+@EntityListeners(UserCacheEvictionListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -21,6 +29,8 @@ public class User implements UserDetails {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Integer id;
 
+    // 변경되지 않는 값이라 자연 키로 사용 (username → id 매핑을 캐시)
+    @NaturalId
     @Column(nullable = false, unique = true, length = 50)
     private String username;
 
@@ -0,0 +1,25 @@
+package com.example.joribhaejospring.user;
+
+import com.example.joribhaejospring.common.CacheConfig;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+// 사용자 정보가 변경/삭제되면 인증 필터의 사용자 캐시를 무효화 (커밋 이후 반영)
+@Component
+@RequiredArgsConstructor
+public class UserCacheEvictionListener {
+    private final CacheManager cacheManager;
+
+    @PostUpdate
+    @PostRemove
+    public void evict(User user) {
+        Cache cache = cacheManager.getCache(CacheConfig.USER_PRINCIPALS);
+        if (cache != null) {
+            cache.evict(user.getId());
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.example.joribhaejospring.user;
 // UserController.java
 import com.example.joribhaejospring.user.dto.LoginRequest;
 import com.example.joribhaejospring.user.dto.LoginResponse;
+import com.example.joribhaejospring.user.dto.RefreshRequest;
 import com.example.joribhaejospring.user.dto.SignupRequest;
 import com.example.joribhaejospring.user.dto.UserResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -11,6 +12,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequestMapping("/api/users")
 @RequiredArgsConstructor
@@ -23,9 +26,9 @@ public class UserController {
             description = ""
     )
     @PostMapping("/signup")
-    public ResponseEntity<String> signup(@RequestBody SignupRequest request) {
-        userService.signup(request);
-        return ResponseEntity.ok("회원가입 성공");
+    public CompletableFuture<ResponseEntity<String>> signup(@RequestBody SignupRequest request) {
+        return userService.signup(request)
+                .thenApply((ignored) -> ResponseEntity.ok("회원가입 성공"));
     }
     
     @Operation(
@@ -33,8 +36,17 @@ public class UserController {
             description = ""
     )
     @PostMapping("/login")
-    public ResponseEntity<LoginResponse> login(@RequestBody LoginRequest request) {
-        return ResponseEntity.ok(userService.login(request));
+    public CompletableFuture<ResponseEntity<LoginResponse>> login(@RequestBody LoginRequest request) {
+        return userService.login(request).thenApply(ResponseEntity::ok);
+    }
+
+    @Operation(
+            summary = "토큰 재발급",
+            description = "리프레시 토큰으로 새 access·refresh 토큰 발급, 사용한 리프레시 토큰은 더 이상 쓸 수 없음"
+    )
+    @PostMapping("/refresh")
+    public ResponseEntity<LoginResponse> refresh(@RequestBody RefreshRequest request) {
+        return ResponseEntity.ok(userService.refresh(request));
     }
 
     @Operation(
@@ -0,0 +1,8 @@
+package com.example.joribhaejospring.user;
+
+import java.util.Optional;
+
+// 자연 키(username) 조회는 Session API로만 자연 키 캐시를 거치므로 파생 쿼리 대신 직접 구현
+public interface UserNaturalIdRepository {
+    Optional<User> findByUsername(String username);
+}
@@ -1,17 +1,54 @@
 package com.example.joribhaejospring.user;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Integer> {
-    boolean existsByUsername(String username);
+public interface UserRepository extends JpaRepository<User, Integer>, UserNaturalIdRepository {
+    // 가입 시 중복 확인을 한 번에 (username·email 유니크 인덱스 각각 사용)
+    @Query("select u.username from User u where u.username = :username or u.email = :email")
+    List<String> findUsernamesByUsernameOrEmail(@Param("username") String username, @Param("email") String email);
 
-    boolean existsByEmail(String email);
+    // username은 자연 키 캐시(UserNaturalIdRepository), email은 쿼리 캐시로 조회
+    // 결과 캐시는 users 테이블이 바뀌면 타임스탬프 비교로 무효화됨
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    Optional<User> findByEmail(String email);
 
-    Optional<User> findByUsername(String username);
+    // 안 읽은 쪽지 수 카운터 (updated_at이 카운터 변경으로 바뀌지 않도록 그대로 대입)
+    // unread_message_count는 User에 매핑되지 않은 컬럼이라 엔티티 테이블이 아닌 이름을 쿼리 공간으로 지정해
+    // 쪽지마다 2차 캐시의 사용자·쿼리 결과가 비워지지 않게 함 (미지정 시 2차 캐시 전체가 무효화됨)
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "unread_message_count"))
+    // 카운터가 어긋나 있어도 음수로 내려가지 않게 0에서 멈춤 (UnreadMessageCountReconciler가 보정)
+    @Query(value = "UPDATE users SET unread_message_count = GREATEST(unread_message_count + :delta, 0), updated_at = updated_at " +
+            "WHERE id = :userId", nativeQuery = true)
+    int addUnreadMessageCount(@Param("userId") Integer userId, @Param("delta") int delta);
 
-    Optional<User> findByEmail(String email);
+    @Query(value = "SELECT unread_message_count FROM users WHERE id = :userId", nativeQuery = true)
+    Integer findUnreadMessageCount(@Param("userId") Integer userId);
+
+    @Query("select coalesce(max(u.id), 0) from User u")
+    Integer findMaxId();
+
+    // (fromId, toId] 구간에서 messages의 안 읽은 쪽지 수와 다른 카운터만 다시 계산
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "unread_message_count"))
+    @Query(value = "UPDATE users u " +
+            "SET unread_message_count = (SELECT COUNT(*) FROM messages m WHERE m.receiver_id = u.id AND m.is_read = FALSE), " +
+            "updated_at = updated_at " +
+            "WHERE u.id > :fromId AND u.id <= :toId " +
+            "AND u.unread_message_count <> (SELECT COUNT(*) FROM messages m WHERE m.receiver_id = u.id AND m.is_read = FALSE)",
+            nativeQuery = true)
+    int reconcileUnreadMessageCounts(@Param("fromId") int fromId, @Param("toId") int toId);
 }
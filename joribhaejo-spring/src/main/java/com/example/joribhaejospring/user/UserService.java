@@ -1,59 +1,88 @@
 package com.example.joribhaejospring.user;
 
-import com.example.joribhaejospring.common.JwtUtil;
 import com.example.joribhaejospring.common.exception.DuplicateRequestException;
 import com.example.joribhaejospring.user.dto.LoginRequest;
 import com.example.joribhaejospring.user.dto.LoginResponse;
+import com.example.joribhaejospring.user.dto.RefreshRequest;
 import com.example.joribhaejospring.user.dto.SignupRequest;
 import com.example.joribhaejospring.user.dto.UserResponse;
-import lombok.RequiredArgsConstructor;
+import com.example.joribhaejospring.user.token.RefreshTokenService;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 @Service
-@RequiredArgsConstructor
 public class UserService {
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
-    private final JwtUtil jwtUtil;
+    private final PasswordHasher passwordHasher;
+    private final RefreshTokenService refreshTokenService;
+    // 해시가 끝난 뒤의 DB 작업을 돌릴 풀 (MVC 비동기 요청과 같은 애플리케이션 기본 풀)
+    private final Executor persistenceExecutor;
+
+    public UserService(
+            UserRepository userRepository,
+            PasswordHasher passwordHasher,
+            RefreshTokenService refreshTokenService,
+            @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) Executor persistenceExecutor
+    ) {
+        this.userRepository = userRepository;
+        this.passwordHasher = passwordHasher;
+        this.refreshTokenService = refreshTokenService;
+        this.persistenceExecutor = persistenceExecutor;
+    }
 
-    public void signup(SignupRequest request) {
-        if (userRepository.existsByUsername(request.getUsername())) {
+    // 해시는 PasswordHasher 풀에서, 저장은 persistenceExecutor로 넘겨 수행
+    // (해시 스레드에서 DB를 기다리면 커넥션 대기 동안 해시 풀이 막혀 대기열이 차고 503이 남)
+    public CompletableFuture<Void> signup(SignupRequest request) {
+        // 아이디·이메일 중복을 한 번에 확인 (users 컬럼 콜레이션이 대소문자를 구분하지 않으므로 비교도 동일하게)
+        List<String> duplicates = userRepository.findUsernamesByUsernameOrEmail(request.getUsername(), request.getEmail());
+        if (duplicates.stream().anyMatch(request.getUsername()::equalsIgnoreCase)) {
             throw new DuplicateRequestException("Username already exists");
         }
-        if (userRepository.existsByEmail(request.getEmail())) {
+        if (!duplicates.isEmpty()) {
             throw new DuplicateRequestException("Email already exists");
         }
 
-        User user = User.builder()
-                .username(request.getUsername())
-                .email(request.getEmail())
-                .password(passwordEncoder.encode(request.getPassword()))
-                .build();
+        return passwordHasher.encode(request.getPassword()).thenAcceptAsync((encodedPassword) -> {
+            User user = User.builder()
+                    .username(request.getUsername())
+                    .email(request.getEmail())
+                    .password(encodedPassword)
+                    .build();
 
-        userRepository.save(user);
+            // 확인 이후 해시하는 동안 같은 아이디·이메일로 먼저 가입된 경우 유니크 키가 막음
+            try {
+                userRepository.save(user);
+            } catch (DataIntegrityViolationException e) {
+                throw new DuplicateRequestException("Username or email already exists");
+            }
+        }, persistenceExecutor);
     }
 
-    public LoginResponse login(LoginRequest request) {
+    public CompletableFuture<LoginResponse> login(LoginRequest request) {
         User user = userRepository.findByEmail((request.getEmail()))
                 .orElseThrow(() -> new BadCredentialsException("Invalid email"));
 
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
-            throw new BadCredentialsException("Invalid email or password");
-        }
+        // 리프레시 토큰 저장도 DB 작업이므로 해시 풀 밖에서
+        return passwordHasher.matches(request.getPassword(), user.getPassword()).thenApplyAsync((matches) -> {
+            if (!matches) {
+                throw new BadCredentialsException("Invalid email or password");
+            }
 
-        Authentication auth = new UsernamePasswordAuthenticationToken(
-                user, user.getPassword(), user.getAuthorities()
-        );
+            return refreshTokenService.issue(user);
+        }, persistenceExecutor);
+    }
 
-        return LoginResponse.builder()
-                .id(user.getId())
-                .accessToken(jwtUtil.generateAccessToken(auth))
-                .build();
+    // 비밀번호 해시 없이 리프레시 토큰으로 새 access·refresh 토큰 발급
+    public LoginResponse refresh(RefreshRequest request) {
+        return refreshTokenService.refresh(request.getRefreshToken());
     }
 
     public UserResponse getMyInfo() {
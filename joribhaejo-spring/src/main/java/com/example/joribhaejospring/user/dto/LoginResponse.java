@@ -10,4 +10,5 @@ import lombok.Getter;
 public class LoginResponse {
     private Integer id;
     private String accessToken;
+    private String refreshToken;
 }
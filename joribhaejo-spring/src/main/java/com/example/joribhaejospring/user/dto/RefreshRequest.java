@@ -0,0 +1,8 @@
+package com.example.joribhaejospring.user.dto;
+
+import lombok.Getter;
+
+@Getter
+public class RefreshRequest {
+    private String refreshToken;
+}
@@ -0,0 +1,44 @@
+package com.example.joribhaejospring.user.token;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 발급한 리프레시 토큰 (토큰 문자열은 저장하지 않고 jti만 보관)
+// 로그인 한 번에서 회전으로 이어지는 토큰들은 같은 familyId를 가짐
+@Entity
+@Table(name = "refresh_tokens")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RefreshToken {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @Column(name = "token_id", nullable = false, unique = true, length = 36)
+    private String tokenId;
+
+    @Column(name = "family_id", nullable = false, length = 36)
+    private String familyId;
+
+    @Column(name = "user_id", nullable = false)
+    private Integer userId;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    // 회전되어 새 토큰으로 교체된 시각
+    @Column(name = "used_at")
+    private LocalDateTime usedAt;
+
+    // 재사용이 감지되어 family 전체가 폐기된 시각
+    @Column(name = "revoked_at")
+    private LocalDateTime revokedAt;
+
+    @Column(name = "created_at", insertable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
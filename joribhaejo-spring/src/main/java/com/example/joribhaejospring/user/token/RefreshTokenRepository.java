@@ -0,0 +1,36 @@
+package com.example.joribhaejospring.user.token;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Integer> {
+    // 같은 토큰으로 동시에 회전을 시도해도 하나만 성공하도록 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from RefreshToken t where t.tokenId = :tokenId")
+    Optional<RefreshToken> findByTokenIdForUpdate(@Param("tokenId") String tokenId);
+
+    @Modifying
+    @Query("update RefreshToken t set t.revokedAt = :now where t.familyId = :familyId and t.revokedAt is null")
+    int revokeFamily(@Param("familyId") String familyId, @Param("now") LocalDateTime now);
+
+    // 폐기 집합 적재·동기화용 (idx_refresh_tokens_revoked)
+    @Query("select new com.example.joribhaejospring.user.token.RevokedFamily(t.familyId, max(t.expiresAt)) " +
+            "from RefreshToken t where t.revokedAt >= :since group by t.familyId")
+    List<RevokedFamily> findRevokedFamiliesSince(@Param("since") LocalDateTime since);
+
+    @Transactional
+    @Modifying
+    @Query("delete from RefreshToken t where t.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
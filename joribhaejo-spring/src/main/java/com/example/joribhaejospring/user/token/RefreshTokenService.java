@@ -0,0 +1,114 @@
+package com.example.joribhaejospring.user.token;
+
+import com.example.joribhaejospring.common.JwtProperties;
+import com.example.joribhaejospring.common.JwtUtil;
+import com.example.joribhaejospring.common.UserDetailsServiceImpl;
+import com.example.joribhaejospring.user.User;
+import com.example.joribhaejospring.user.dto.LoginResponse;
+import io.jsonwebtoken.Claims;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.UUID;
+
+// 리프레시 토큰 발급·회전: 사용할 때마다 새 토큰으로 바꾸고, 이미 바뀐 토큰이 다시 오면 탈취로 보고 family 전체 폐기
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenService {
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final RevokedTokenFamilies revokedTokenFamilies;
+    private final UserDetailsServiceImpl userDetailsService;
+    private final JwtUtil jwtUtil;
+    private final JwtProperties jwtProperties;
+    private final TransactionTemplate transactionTemplate;
+
+    // 로그인 성공 시 새 family로 access·refresh 토큰 발급
+    public LoginResponse issue(User user) {
+        return tokens(user, UUID.randomUUID().toString());
+    }
+
+    public LoginResponse refresh(String refreshToken) {
+        Claims claims = refreshToken == null ? null : jwtUtil.parseClaims(refreshToken);
+        if (claims == null || !jwtUtil.isRefreshToken(claims)) {
+            throw new BadCredentialsException("유효하지 않은 리프레시 토큰입니다.");
+        }
+        String familyId = jwtUtil.getFamilyId(claims);
+        if (revokedTokenFamilies.isRevoked(familyId)) {
+            throw new BadCredentialsException("폐기된 리프레시 토큰입니다.");
+        }
+        User user = userDetailsService.loadUserById(Integer.parseInt(claims.getSubject()));
+
+        // 사용 표시와 새 토큰 저장을 한 트랜잭션으로 (재사용 시 family 폐기도 예외 없이 커밋되도록 결과로 반환)
+        Rotation rotation = transactionTemplate.execute(status -> rotate(claims.getId(), user, familyId));
+        if (rotation.reused()) {
+            // 커밋된 뒤 바로 반영해 이미 발급된 access 토큰도 거절
+            revokedTokenFamilies.revoke(familyId);
+            log.warn("리프레시 토큰 재사용 감지, family 폐기: userId={}, familyId={}", user.getId(), familyId);
+            throw new BadCredentialsException("폐기된 리프레시 토큰입니다.");
+        }
+        if (rotation.tokens() == null) {
+            throw new BadCredentialsException("유효하지 않은 리프레시 토큰입니다.");
+        }
+        return rotation.tokens();
+    }
+
+    @Scheduled(fixedDelayString = "${refresh-token.cleanup-interval:3600000}")
+    public void deleteExpired() {
+        int deleted = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("만료된 리프레시 토큰 삭제: {}건", deleted);
+        }
+    }
+
+    private Rotation rotate(String tokenId, User user, String familyId) {
+        RefreshToken current = refreshTokenRepository.findByTokenIdForUpdate(tokenId).orElse(null);
+        if (current == null) {
+            return new Rotation(false, null);
+        }
+        LocalDateTime now = LocalDateTime.now();
+        if (current.getUsedAt() != null || current.getRevokedAt() != null) {
+            refreshTokenRepository.revokeFamily(familyId, now);
+            return new Rotation(true, null);
+        }
+        current.setUsedAt(now);
+        return new Rotation(false, tokens(user, familyId));
+    }
+
+    private LoginResponse tokens(User user, String familyId) {
+        UsernamePasswordAuthenticationToken auth =
+                new UsernamePasswordAuthenticationToken(user, user.getPassword(), user.getAuthorities());
+
+        return LoginResponse.builder()
+                .id(user.getId())
+                .accessToken(jwtUtil.generateAccessToken(auth, familyId))
+                .refreshToken(createRefreshToken(user.getId(), familyId))
+                .build();
+    }
+
+    private String createRefreshToken(Integer userId, String familyId) {
+        String tokenId = UUID.randomUUID().toString();
+        LocalDateTime expiresAt = LocalDateTime.now().plus(Duration.ofMillis(jwtProperties.getRefreshExp()));
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tokenId(tokenId)
+                .familyId(familyId)
+                .userId(userId)
+                .expiresAt(expiresAt)
+                .build());
+        return jwtUtil.generateRefreshToken(userId, tokenId, familyId,
+                Date.from(expiresAt.atZone(ZoneId.systemDefault()).toInstant()));
+    }
+
+    // tokens가 null이면 실패 (reused면 재사용 감지로 family 폐기됨)
+    private record Rotation(boolean reused, LoginResponse tokens) {
+    }
+}
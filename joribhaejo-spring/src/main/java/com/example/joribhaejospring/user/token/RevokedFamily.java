@@ -0,0 +1,14 @@
+package com.example.joribhaejospring.user.token;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 폐기된 토큰 family와 그 family에서 마지막으로 발급한 토큰의 만료 시각, RefreshTokenRepository의 JPQL 생성자 표현식으로 직접 생성
+@Getter
+@AllArgsConstructor
+public class RevokedFamily {
+    private String familyId;
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,79 @@
+package com.example.joribhaejospring.user.token;
+
+import com.example.joribhaejospring.common.JwtProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 폐기된 토큰 family 집합 (family id → 만료 시각): JWT 필터가 요청마다 DB 조회 없이 확인
+// 시작 시 refresh_tokens 테이블에서 적재하고, 이후에는 주기적으로 새로 폐기된 것만 읽어 다른 인스턴스의 폐기도 반영
+// family의 마지막 토큰이 만료되면 그 family로 발급한 토큰도 모두 만료되므로 집합에서 제거해 크기를 제한
+@Slf4j
+@Component
+public class RevokedTokenFamilies {
+    // DATETIME은 초 단위라 경계에서 빠지지 않도록 조금 겹쳐 읽음
+    private static final Duration SYNC_OVERLAP = Duration.ofSeconds(2);
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final Duration refreshExpiration;
+    private final ZoneId zone = ZoneId.systemDefault();
+
+    private final ConcurrentHashMap<String, Long> families = new ConcurrentHashMap<>();
+    private volatile LocalDateTime syncedAt;
+
+    public RevokedTokenFamilies(RefreshTokenRepository refreshTokenRepository, JwtProperties jwtProperties) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.refreshExpiration = Duration.ofMillis(jwtProperties.getRefreshExp());
+    }
+
+    public boolean isRevoked(String familyId) {
+        return familyId != null && families.containsKey(familyId);
+    }
+
+    // 이 인스턴스에서 폐기한 family는 동기화를 기다리지 않고 바로 반영 (커밋 이후 호출)
+    public void revoke(String familyId) {
+        families.put(familyId, System.currentTimeMillis() + refreshExpiration.toMillis());
+    }
+
+    // 폐기 이전에 발급된 토큰만 남아 있으므로 리프레시 토큰 수명 이전의 폐기는 볼 필요 없음
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        LocalDateTime now = LocalDateTime.now();
+        List<RevokedFamily> revoked = refreshTokenRepository.findRevokedFamiliesSince(now.minus(refreshExpiration));
+        revoked.forEach(this::put);
+        syncedAt = now;
+        log.info("폐기된 토큰 family 적재: {}건", revoked.size());
+    }
+
+    @Scheduled(fixedDelayString = "${refresh-token.sync-interval:30000}")
+    public void sync() {
+        if (syncedAt == null) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        refreshTokenRepository.findRevokedFamiliesSince(syncedAt.minus(SYNC_OVERLAP)).forEach(this::put);
+        syncedAt = now;
+
+        long nowMillis = System.currentTimeMillis();
+        families.values().removeIf((expiresAt) -> expiresAt < nowMillis);
+    }
+
+    // 메트릭용
+    public int size() {
+        return families.size();
+    }
+
+    private void put(RevokedFamily family) {
+        long expiresAt = family.getExpiresAt().atZone(zone).toInstant().toEpochMilli();
+        families.merge(family.getFamilyId(), expiresAt, Math::max);
+    }
+}
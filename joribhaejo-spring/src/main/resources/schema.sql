@@ -9,6 +9,8 @@ CREATE TABLE users (
                        username VARCHAR(50) NOT NULL UNIQUE,
                        email VARCHAR(100) NOT NULL UNIQUE,
                        password VARCHAR(255) NOT NULL,
+                       -- 기존 DB는 upgrade/unread-message-count.sql 적용
+                       unread_message_count INT NOT NULL DEFAULT 0,
                        created_at DATETIME DEFAULT CURRENT_TIMESTAMP,
                        updated_at DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
 );
@@ -31,8 +33,17 @@ CREATE TABLE posts (
                        content TEXT NOT NULL,
                        category enum('WEB', 'MOBILE', 'BACK', 'HARD', 'AI', 'NETWORK', 'SECURITY', 'DEVOPS', 'ETC') NOT NULL,
                        view_count INT DEFAULT 0,
+                       -- 기존 DB는 upgrade/like-count.sql 적용
+                       like_count INT NOT NULL DEFAULT 0,
                        created_at DATETIME DEFAULT CURRENT_TIMESTAMP,
                        updated_at DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+                       -- 기존 DB는 upgrade/post-cursor-indexes.sql 적용
+                       INDEX idx_posts_board_created (board_id, created_at, id),
+                       INDEX idx_posts_board_category_created (board_id, category, created_at, id),
+                       -- 기존 DB는 upgrade/list-etag-indexes.sql 적용
+                       INDEX idx_posts_board_category_updated (board_id, category, updated_at),
+                       -- 기존 DB는 upgrade/activity-indexes.sql 적용
+                       INDEX idx_posts_author_created (author_id, created_at, id),
                        FOREIGN KEY (board_id) REFERENCES boards(id) ON DELETE CASCADE,
                        FOREIGN KEY (author_id) REFERENCES users(id) ON DELETE CASCADE
 );
@@ -44,8 +55,14 @@ CREATE TABLE comments (
                           author_id INT NOT NULL,
                           content TEXT NOT NULL,
                           parent_comment_id INT,
+                          -- 기존 DB는 upgrade/like-count.sql 적용
+                          like_count INT NOT NULL DEFAULT 0,
                           created_at DATETIME DEFAULT CURRENT_TIMESTAMP,
                           updated_at DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+                          -- 기존 DB는 upgrade/list-etag-indexes.sql 적용
+                          INDEX idx_comments_post_updated (post_id, updated_at),
+                          -- 기존 DB는 upgrade/activity-indexes.sql 적용
+                          INDEX idx_comments_author_created (author_id, created_at, id),
                           FOREIGN KEY (post_id) REFERENCES posts(id) ON DELETE CASCADE,
                           FOREIGN KEY (author_id) REFERENCES users(id) ON DELETE CASCADE,
                           FOREIGN KEY (parent_comment_id) REFERENCES comments(id) ON DELETE CASCADE
@@ -59,7 +76,11 @@ CREATE TABLE likes (
                        target_id INT NOT NULL,
                        created_at DATETIME DEFAULT CURRENT_TIMESTAMP,
                        FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
-                       UNIQUE KEY unique_like (user_id, target_type, target_id)
+                       UNIQUE KEY unique_like (user_id, target_type, target_id),
+                       -- 기존 DB는 upgrade/like-target-index.sql 적용
+                       INDEX idx_likes_target (target_type, target_id),
+                       -- 기존 DB는 upgrade/activity-indexes.sql 적용
+                       INDEX idx_likes_user_created (user_id, created_at, id)
 );
 
 -- 6. 쪽지
@@ -68,7 +89,28 @@ CREATE TABLE messages (
                           sender_id INT NOT NULL,
                           receiver_id INT NOT NULL,
                           content TEXT NOT NULL,
+                          -- 기존 DB는 upgrade/unread-message-count.sql 적용 (is_read와 아래 인덱스)
+                          is_read BOOLEAN NOT NULL DEFAULT FALSE,
                           created_at DATETIME DEFAULT CURRENT_TIMESTAMP,
+                          INDEX idx_messages_receiver_created (receiver_id, created_at, id),
+                          INDEX idx_messages_sender_created (sender_id, created_at, id),
                           FOREIGN KEY (sender_id) REFERENCES users(id) ON DELETE CASCADE,
                           FOREIGN KEY (receiver_id) REFERENCES users(id) ON DELETE CASCADE
 );
+
+-- 7. 리프레시 토큰 (토큰 문자열 대신 jti만 저장, 로그인 한 번에서 회전으로 이어지는 토큰은 같은 family)
+-- 기존 DB는 upgrade/refresh-tokens.sql 적용
+CREATE TABLE refresh_tokens (
+                                id INT PRIMARY KEY AUTO_INCREMENT,
+                                token_id CHAR(36) NOT NULL UNIQUE,
+                                family_id CHAR(36) NOT NULL,
+                                user_id INT NOT NULL,
+                                expires_at DATETIME NOT NULL,
+                                used_at DATETIME,
+                                revoked_at DATETIME,
+                                created_at DATETIME DEFAULT CURRENT_TIMESTAMP,
+                                INDEX idx_refresh_tokens_family (family_id),
+                                INDEX idx_refresh_tokens_revoked (revoked_at),
+                                INDEX idx_refresh_tokens_expires (expires_at),
+                                FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+);
@@ -0,0 +1,16 @@
+-- 기존 DB 업그레이드: 사용자 활동 피드(작성 글·댓글·좋아요) 커서 조회용 인덱스
+-- schema.sql은 새 DB에만 적용되므로, 이미 운영 중인 DB에는 새 버전 배포 전에 이 스크립트를 한 번 실행
+-- 없으면 피드 한 페이지마다 세 테이블에서 해당 사용자의 행을 모두 읽고 정렬
+
+-- INPLACE + LOCK=NONE: 인덱스를 만드는 동안에도 읽기·쓰기를 막지 않음
+ALTER TABLE posts
+    ADD INDEX idx_posts_author_created (author_id, created_at, id),
+    ALGORITHM=INPLACE, LOCK=NONE;
+
+ALTER TABLE comments
+    ADD INDEX idx_comments_author_created (author_id, created_at, id),
+    ALGORITHM=INPLACE, LOCK=NONE;
+
+ALTER TABLE likes
+    ADD INDEX idx_likes_user_created (user_id, created_at, id),
+    ALGORITHM=INPLACE, LOCK=NONE;
@@ -0,0 +1,22 @@
+-- 기존 DB 업그레이드: 게시글·댓글 좋아요 수 캐시 컬럼(posts.like_count, comments.like_count) 추가
+-- schema.sql은 새 DB에만 적용되므로, 이미 운영 중인 DB에는 새 버전 배포 전에 이 스크립트를 한 번 실행
+-- (기존 버전은 like_count를 쓰지 않으므로 배포 전에 실행해도 안전)
+
+-- 기본값이 있는 NOT NULL 컬럼은 MySQL 8에서 테이블을 다시 쓰지 않고 즉시 추가
+ALTER TABLE posts ADD COLUMN like_count INT NOT NULL DEFAULT 0 AFTER view_count, ALGORITHM=INSTANT;
+ALTER TABLE comments ADD COLUMN like_count INT NOT NULL DEFAULT 0 AFTER parent_comment_id, ALGORITHM=INSTANT;
+
+-- 현재 likes 기준으로 채움: 대상별로 한 번 집계해 join (행마다 하위 쿼리를 돌리면 likes를 대상 수만큼 훑음)
+-- 좋아요가 없는 대상은 기본값 0 그대로
+UPDATE posts p
+    JOIN (SELECT target_id, COUNT(*) AS cnt FROM likes WHERE target_type = 'POST' GROUP BY target_id) l
+    ON l.target_id = p.id
+SET p.like_count = l.cnt;
+
+UPDATE comments c
+    JOIN (SELECT target_id, COUNT(*) AS cnt FROM likes WHERE target_type = 'COMMENT' GROUP BY target_id) l
+    ON l.target_id = c.id
+SET c.like_count = l.cnt;
+
+-- 이 스크립트 실행 후 배포 전까지 눌린 좋아요는 카운터에 반영되지 않음
+-- 배포 직후 위 두 UPDATE를 한 번 더 실행하거나, LikeCountReconciler가 매일 likes 기준으로 다시 계산
@@ -0,0 +1,9 @@
+-- 기존 DB 업그레이드: 대상(게시글·댓글) 기준 좋아요 조회 인덱스
+-- schema.sql은 새 DB에만 적용되므로, 이미 운영 중인 DB에는 새 버전 배포 전에 이 스크립트를 한 번 실행
+-- 없으면 게시판 삭제 후 고아 좋아요 정리와 like_count 보정이 구간마다 likes 전체를 훑음
+-- (unique_like는 user_id가 앞이라 대상 기준 조회에 쓸 수 없음)
+
+-- INPLACE + LOCK=NONE: 인덱스를 만드는 동안에도 읽기·쓰기를 막지 않음
+ALTER TABLE likes
+    ADD INDEX idx_likes_target (target_type, target_id),
+    ALGORITHM=INPLACE, LOCK=NONE;
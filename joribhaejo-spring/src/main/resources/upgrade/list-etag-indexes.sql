@@ -0,0 +1,12 @@
+-- 기존 DB 업그레이드: 목록·댓글 ETag 계산용 인덱스
+-- schema.sql은 새 DB에만 적용되므로, 이미 운영 중인 DB에는 새 버전 배포 전에 이 스크립트를 한 번 실행
+-- 없으면 304 확인(count, max(updated_at))마다 게시판·게시글의 행을 모두 읽어 ETag의 이점이 사라짐
+
+-- INPLACE + LOCK=NONE: 인덱스를 만드는 동안에도 읽기·쓰기를 막지 않음
+ALTER TABLE posts
+    ADD INDEX idx_posts_board_category_updated (board_id, category, updated_at),
+    ALGORITHM=INPLACE, LOCK=NONE;
+
+ALTER TABLE comments
+    ADD INDEX idx_comments_post_updated (post_id, updated_at),
+    ALGORITHM=INPLACE, LOCK=NONE;
@@ -0,0 +1,9 @@
+-- 기존 DB 업그레이드: 게시글 목록 커서(keyset) 페이지네이션용 인덱스
+-- schema.sql은 새 DB에만 적용되므로, 이미 운영 중인 DB에는 새 버전 배포 전에 이 스크립트를 한 번 실행
+-- 없으면 (created_at, id) 커서 조건과 정렬이 게시판 전체를 훑고 filesort로 처리됨
+
+-- INPLACE + LOCK=NONE: 인덱스를 만드는 동안에도 읽기·쓰기를 막지 않음
+ALTER TABLE posts
+    ADD INDEX idx_posts_board_created (board_id, created_at, id),
+    ADD INDEX idx_posts_board_category_created (board_id, category, created_at, id),
+    ALGORITHM=INPLACE, LOCK=NONE;
@@ -0,0 +1,21 @@
+-- 기존 DB 업그레이드: 리프레시 토큰 회전·재사용 감지용 refresh_tokens 테이블 추가
+-- schema.sql은 새 DB에만 적용되므로, 이미 운영 중인 DB에는 새 버전 배포 전에 이 스크립트를 한 번 실행
+-- (없으면 로그인 시 토큰 저장이 실패하고, 시작 시 RevokedTokenFamilies의 폐기 family 로드도 실패)
+-- 기존 버전은 이 테이블을 쓰지 않으므로 배포 전에 실행해도 안전
+
+CREATE TABLE IF NOT EXISTS refresh_tokens (
+    id INT PRIMARY KEY AUTO_INCREMENT,
+    token_id CHAR(36) NOT NULL UNIQUE,
+    family_id CHAR(36) NOT NULL,
+    user_id INT NOT NULL,
+    expires_at DATETIME NOT NULL,
+    used_at DATETIME,
+    revoked_at DATETIME,
+    created_at DATETIME DEFAULT CURRENT_TIMESTAMP,
+    INDEX idx_refresh_tokens_family (family_id),
+    INDEX idx_refresh_tokens_revoked (revoked_at),
+    INDEX idx_refresh_tokens_expires (expires_at),
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+);
+
+-- 기존 버전이 발급한 리프레시 토큰은 저장된 적이 없으므로 배포 후 재발급이 거절됨 (다시 로그인 필요)
@@ -0,0 +1,19 @@
+-- 기존 DB 업그레이드: 쪽지 읽음 상태(messages.is_read)와 안 읽은 쪽지 수 카운터(users.unread_message_count), 쪽지함 인덱스 추가
+-- schema.sql은 새 DB에만 적용되므로, 이미 운영 중인 DB에는 새 버전 배포 전에 이 스크립트를 한 번 실행
+-- (기존 버전은 두 컬럼을 쓰지 않으므로 배포 전에 실행해도 안전)
+
+-- 카운터는 0부터 시작
+ALTER TABLE users ADD COLUMN unread_message_count INT NOT NULL DEFAULT 0 AFTER password;
+
+-- 도입 이전 쪽지는 읽음 여부를 알 수 없으므로 모두 읽음으로 추가해 카운터(0)와 맞춤
+-- (기본값을 TRUE로 추가하면 MySQL 8은 테이블을 다시 쓰지 않고 즉시 추가, 이후 새 쪽지부터 FALSE)
+ALTER TABLE messages ADD COLUMN is_read BOOLEAN NOT NULL DEFAULT TRUE AFTER content, ALGORITHM=INSTANT;
+ALTER TABLE messages ALTER COLUMN is_read SET DEFAULT FALSE;
+
+-- 받은·보낸 쪽지함 커서 페이지네이션용 (없으면 쪽지함마다 messages 전체를 훑고 정렬)
+ALTER TABLE messages
+    ADD INDEX idx_messages_receiver_created (receiver_id, created_at, id),
+    ADD INDEX idx_messages_sender_created (sender_id, created_at, id),
+    ALGORITHM=INPLACE, LOCK=NONE;
+
+-- 어긋난 카운터는 UnreadMessageCountReconciler가 매일 messages 기준으로 다시 계산
@@ -0,0 +1,172 @@
+package com.example.joribhaejospring.activity;
+
+import com.example.joribhaejospring.activity.dto.ActivityResponse;
+import com.example.joribhaejospring.comment.Comment;
+import com.example.joribhaejospring.comment.CommentRepository;
+import com.example.joribhaejospring.like.Like;
+import com.example.joribhaejospring.like.LikeRepository;
+import com.example.joribhaejospring.post.Post;
+import com.example.joribhaejospring.post.PostRepository;
+import com.example.joribhaejospring.post.dto.CursorResponse;
+import com.example.joribhaejospring.post.dto.PostSummaryResponse;
+import com.example.joribhaejospring.user.User;
+import com.example.joribhaejospring.user.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 세 스트림을 병합한 결과를 페이지 단위로 끝까지 넘겨도 빠지거나 중복되는 항목이 없어야 함
+@ExtendWith(MockitoExtension.class)
+class ActivityServiceTest {
+    private static final Integer USER_ID = 1;
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private LikeRepository likeRepository;
+
+    @InjectMocks
+    private ActivityService activityService;
+
+    // 시각이 겹치는 항목을 섞어 종류 간 순서 결정도 확인
+    private final List<PostSummaryResponse> posts = List.of(post(1, 10), post(2, 7), post(3, 7), post(4, 1));
+    private final List<Comment> comments = List.of(comment(1, 9), comment(2, 7), comment(3, 3), comment(4, 2), comment(5, 0));
+    private final List<Like> likes = List.of(like(1, 8), like(2, 7), like(3, 4));
+
+    @BeforeEach
+    void setUp() {
+        when(userRepository.existsById(USER_ID)).thenReturn(true);
+
+        lenient().when(postRepository.findAuthoredFirstSlice(eq(USER_ID), anyInt(), any()))
+                .thenAnswer((invocation) -> slice(posts, PostSummaryResponse::getCreatedAt, PostSummaryResponse::getId,
+                        null, null, invocation.getArgument(2)));
+        lenient().when(postRepository.findAuthoredSliceAfter(eq(USER_ID), any(), any(), anyInt(), any()))
+                .thenAnswer((invocation) -> slice(posts, PostSummaryResponse::getCreatedAt, PostSummaryResponse::getId,
+                        invocation.getArgument(1), invocation.getArgument(2), invocation.getArgument(4)));
+        lenient().when(commentRepository.findAuthoredFirstSlice(eq(USER_ID), any()))
+                .thenAnswer((invocation) -> slice(comments, Comment::getCreatedAt, Comment::getId,
+                        null, null, invocation.getArgument(1)));
+        lenient().when(commentRepository.findAuthoredSliceAfter(eq(USER_ID), any(), any(), any()))
+                .thenAnswer((invocation) -> slice(comments, Comment::getCreatedAt, Comment::getId,
+                        invocation.getArgument(1), invocation.getArgument(2), invocation.getArgument(3)));
+        lenient().when(likeRepository.findGivenFirstSlice(eq(USER_ID), any()))
+                .thenAnswer((invocation) -> slice(likes, Like::getCreatedAt, Like::getId,
+                        null, null, invocation.getArgument(1)));
+        lenient().when(likeRepository.findGivenSliceAfter(eq(USER_ID), any(), any(), any()))
+                .thenAnswer((invocation) -> slice(likes, Like::getCreatedAt, Like::getId,
+                        invocation.getArgument(1), invocation.getArgument(2), invocation.getArgument(3)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void ownerPagesThroughAllActivityNewestFirst() {
+        authenticate(USER_ID);
+
+        List<String> all = readAll(3);
+
+        assertThat(all).containsExactly(
+                "POST1", "COMMENT1", "LIKE1",
+                "POST3", "POST2", "COMMENT2", "LIKE2",
+                "LIKE3", "COMMENT3", "COMMENT4", "POST4", "COMMENT5");
+    }
+
+    @Test
+    void likesAreHiddenFromOtherUsers() {
+        authenticate(2);
+
+        List<String> all = readAll(5);
+
+        assertThat(all).containsExactly(
+                "POST1", "COMMENT1", "POST3", "POST2", "COMMENT2",
+                "COMMENT3", "COMMENT4", "POST4", "COMMENT5");
+        verify(likeRepository, never()).findGivenFirstSlice(any(), any());
+    }
+
+    private List<String> readAll(int size) {
+        List<String> all = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorResponse<ActivityResponse> page = activityService.getActivity(USER_ID, cursor, size);
+            assertThat(page.getContent()).hasSizeLessThanOrEqualTo(size);
+            page.getContent().forEach((item) -> all.add(item.getType().name() + item.getId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return all;
+    }
+
+    // (createdAt, id) 내림차순 키셋 조회 흉내
+    private static <T> List<T> slice(List<T> items, Function<T, LocalDateTime> createdAt, Function<T, Integer> id,
+                                     LocalDateTime afterCreatedAt, Integer afterId, Pageable limit) {
+        Comparator<T> newestFirst = Comparator.comparing(createdAt).thenComparing(id).reversed();
+        return items.stream()
+                .filter((item) -> afterCreatedAt == null
+                        || createdAt.apply(item).isBefore(afterCreatedAt)
+                        || (createdAt.apply(item).isEqual(afterCreatedAt) && id.apply(item) < afterId))
+                .sorted(newestFirst)
+                .limit(limit.getPageSize())
+                .toList();
+    }
+
+    private static void authenticate(Integer userId) {
+        User user = User.builder().id(userId).username("user" + userId).build();
+        SecurityContextHolder.getContext()
+                .setAuthentication(new UsernamePasswordAuthenticationToken(user, null, List.of()));
+    }
+
+    private static PostSummaryResponse post(Integer id, int minutes) {
+        return new PostSummaryResponse(id, 1, USER_ID, "user", "title" + id, "content",
+                Post.PostCategory.ETC, 0, 0, BASE.plusMinutes(minutes), BASE.plusMinutes(minutes));
+    }
+
+    private static Comment comment(Integer id, int minutes) {
+        return Comment.builder()
+                .id(id)
+                .post(Post.builder().id(1).build())
+                .content("comment" + id)
+                .createdAt(BASE.plusMinutes(minutes))
+                .build();
+    }
+
+    private static Like like(Integer id, int minutes) {
+        return Like.builder()
+                .id(id)
+                .targetType(Like.TargetType.POST)
+                .targetId(1)
+                .createdAt(BASE.plusMinutes(minutes))
+                .build();
+    }
+}
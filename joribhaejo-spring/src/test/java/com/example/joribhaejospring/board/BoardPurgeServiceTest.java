@@ -0,0 +1,135 @@
+package com.example.joribhaejospring.board;
+
+import com.example.joribhaejospring.board.dto.BoardPurgeJobResponse;
+import com.example.joribhaejospring.like.LikedSetCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+// 게시판 삭제가 청크 단위로 게시글·댓글 트리·좋아요를 모두 지우고 다른 게시판은 건드리지 않아야 함
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({BoardPurgeService.class, BoardService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "test.database=purge",
+        "board-purge.chunk-size=3"
+})
+class BoardPurgeServiceTest {
+    private static final int POSTS = 7;
+
+    @Autowired
+    private BoardPurgeService boardPurgeService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private LikedSetCache likedSetCache;
+
+    private Integer userId;
+    private Integer purgedBoardId;
+    private Integer keptBoardId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO users (username, email, password) VALUES ('purger', 'purger@test.local', 'password')");
+        userId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM users", Integer.class);
+        purgedBoardId = insertBoard("purged");
+        keptBoardId = insertBoard("kept");
+
+        for (int i = 0; i < POSTS; i++) {
+            Integer postId = insertPost(purgedBoardId);
+            like("POST", postId);
+            // 댓글 2개 + 각각 답글 1개
+            for (int j = 0; j < 2; j++) {
+                Integer commentId = insertComment(postId, null);
+                like("COMMENT", commentId);
+                like("COMMENT", insertComment(postId, commentId));
+            }
+        }
+        Integer keptPostId = insertPost(keptBoardId);
+        like("POST", keptPostId);
+        like("COMMENT", insertComment(keptPostId, null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM likes");
+        jdbcTemplate.update("DELETE FROM comments");
+        jdbcTemplate.update("DELETE FROM posts");
+        jdbcTemplate.update("DELETE FROM boards");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    @Test
+    void purgesPostsCommentTreesAndLikesInChunks() throws Exception {
+        BoardPurgeJobResponse started = boardPurgeService.startPurge(purgedBoardId);
+        assertThat(started.getTotalPosts()).isEqualTo(POSTS);
+
+        BoardPurgeJobResponse finished = awaitFinished(purgedBoardId);
+
+        assertThat(finished.getStatus()).isEqualTo("COMPLETED");
+        assertThat(finished.getDeletedPosts()).isEqualTo(POSTS);
+        assertThat(finished.getDeletedComments()).isEqualTo(POSTS * 4);
+        assertThat(finished.getDeletedLikes()).isEqualTo(POSTS * 5);
+
+        assertThat(count("SELECT COUNT(*) FROM boards WHERE id = ?", purgedBoardId)).isZero();
+        assertThat(count("SELECT COUNT(*) FROM posts WHERE board_id = ?", purgedBoardId)).isZero();
+        // 다른 게시판의 게시글·댓글·좋아요만 남음
+        assertThat(count("SELECT COUNT(*) FROM posts WHERE board_id = ?", keptBoardId)).isEqualTo(1);
+        assertThat(count("SELECT COUNT(*) FROM comments")).isEqualTo(1);
+        assertThat(count("SELECT COUNT(*) FROM likes")).isEqualTo(2);
+        verify(likedSetCache, timeout(1_000)).invalidateAll();
+    }
+
+    private BoardPurgeJobResponse awaitFinished(Integer boardId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        BoardPurgeJobResponse job = boardPurgeService.getPurgeJob(boardId);
+        while ("RUNNING".equals(job.getStatus()) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            job = boardPurgeService.getPurgeJob(boardId);
+        }
+        return job;
+    }
+
+    private Integer insertBoard(String name) {
+        jdbcTemplate.update("INSERT INTO boards (name) VALUES (?)", name);
+        return jdbcTemplate.queryForObject("SELECT MAX(id) FROM boards", Integer.class);
+    }
+
+    private Integer insertPost(Integer boardId) {
+        jdbcTemplate.update("INSERT INTO posts (board_id, author_id, title, content, category) VALUES (?, ?, 'title', 'content', 'ETC')",
+                boardId, userId);
+        return jdbcTemplate.queryForObject("SELECT MAX(id) FROM posts", Integer.class);
+    }
+
+    private Integer insertComment(Integer postId, Integer parentCommentId) {
+        jdbcTemplate.update("INSERT INTO comments (post_id, author_id, content, parent_comment_id) VALUES (?, ?, 'comment', ?)",
+                postId, userId, parentCommentId);
+        return jdbcTemplate.queryForObject("SELECT MAX(id) FROM comments", Integer.class);
+    }
+
+    private void like(String targetType, Integer targetId) {
+        jdbcTemplate.update("INSERT INTO likes (user_id, target_type, target_id) VALUES (?, ?, ?)", userId, targetType, targetId);
+    }
+
+    private int count(String sql, Object... args) {
+        return jdbcTemplate.queryForObject(sql, Integer.class, args);
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.joribhaejospring.common;
+
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Date;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 인증이 필요한 경로에 토큰이 없거나 만료되었으면 401이어야 클라이언트가 리프레시 토큰으로 재발급을 시도함
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = "test.database=security")
+class SecurityConfigTest {
+    private static final String AUTHENTICATED_PATH = "/api/messages/unread-count";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtProperties jwtProperties;
+
+    @Test
+    void missingTokenReturns401() throws Exception {
+        mockMvc.perform(get(AUTHENTICATED_PATH))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void expiredTokenReturns401() throws Exception {
+        String expired = Jwts.builder()
+                .subject("1")
+                .issuedAt(new Date(System.currentTimeMillis() - 7_200_000))
+                .expiration(new Date(System.currentTimeMillis() - 3_600_000))
+                .signWith(jwtProperties.getSecretKey())
+                .compact();
+
+        mockMvc.perform(get(AUTHENTICATED_PATH).header("Authorization", "Bearer " + expired))
+                .andExpect(status().isUnauthorized());
+    }
+
+    // 관리 포트가 아닌 서비스 포트로 들어온 지표 요청은 인증 필요
+    @Test
+    void prometheusIsNotPublicOnServicePort() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/metrics"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void publicRouteStillAllowsAnonymous() throws Exception {
+        mockMvc.perform(get("/api/boards"))
+                .andExpect(status().isOk());
+    }
+}
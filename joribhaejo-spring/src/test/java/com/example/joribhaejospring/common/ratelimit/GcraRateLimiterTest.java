@@ -0,0 +1,48 @@
+package com.example.joribhaejospring.common.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GcraRateLimiterTest {
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    // 1초에 1개, 최대 3개 연속
+    private final GcraRateLimiter limiter = new GcraRateLimiter(1, Duration.ofSeconds(1), 3);
+
+    @Test
+    void allowsBurstThenRejectsUntilNextEmission() {
+        long now = 1_000 * SECOND;
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire("user:1", now)).isZero();
+        }
+
+        assertThat(limiter.tryAcquire("user:1", now)).isEqualTo(SECOND);
+        assertThat(limiter.tryAcquire("user:1", now + SECOND / 2)).isEqualTo(SECOND / 2);
+        assertThat(limiter.tryAcquire("user:1", now + SECOND)).isZero();
+        // 다른 키는 영향 없음
+        assertThat(limiter.tryAcquire("ip:127.0.0.1", now)).isZero();
+    }
+
+    @Test
+    void refillsAfterIdleAndEvictsOnlyFullBuckets() {
+        long now = 1_000 * SECOND;
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("user:1", now);
+        }
+        limiter.tryAcquire("user:2", now);
+
+        // user:2는 1초 뒤 가득 참, user:1은 3초 뒤
+        limiter.evictIdle(now + SECOND);
+        assertThat(limiter.size()).isEqualTo(1);
+
+        limiter.evictIdle(now + 3 * SECOND);
+        assertThat(limiter.size()).isZero();
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire("user:1", now + 3 * SECOND)).isZero();
+        }
+    }
+}
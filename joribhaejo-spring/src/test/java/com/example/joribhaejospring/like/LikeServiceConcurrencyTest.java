@@ -0,0 +1,168 @@
+package com.example.joribhaejospring.like;
+
+import com.example.joribhaejospring.like.dto.LikeStateResponse;
+import com.example.joribhaejospring.user.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 같은 대상에 여러 스레드가 동시에 좋아요/취소/토글해도 예외 없이 likes 행 수와 like_count가 일치해야 함
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(LikeService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ActiveProfiles("test")
+@TestPropertySource(properties = "test.database=likes")
+class LikeServiceConcurrencyTest {
+    private static final int USERS = 20;
+    private static final int REPEAT = 25;
+
+    @Autowired
+    private LikeService likeService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // 비트맵 캐시는 이 테스트 대상이 아님
+    @MockitoBean
+    private LikedSetCache likedSetCache;
+
+    private List<Integer> userIds;
+    private Integer postId;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < USERS; i++) {
+            jdbcTemplate.update("INSERT INTO users (username, email, password) VALUES (?, ?, ?)",
+                    "liker" + i, "liker" + i + "@test.local", "password");
+        }
+        jdbcTemplate.update("INSERT INTO boards (name) VALUES ('likes')");
+        Integer boardId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM boards", Integer.class);
+        userIds = jdbcTemplate.queryForList("SELECT id FROM users ORDER BY id", Integer.class);
+        jdbcTemplate.update("INSERT INTO posts (board_id, author_id, title, content, category) VALUES (?, ?, 'title', 'content', 'ETC')",
+                boardId, userIds.get(0));
+        postId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM posts", Integer.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM likes");
+        jdbcTemplate.update("DELETE FROM posts");
+        jdbcTemplate.update("DELETE FROM boards");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    @Test
+    void concurrentLikesAreAppliedOncePerUser() throws Exception {
+        List<Callable<LikeStateResponse>> tasks = new ArrayList<>();
+        for (Integer userId : userIds) {
+            for (int i = 0; i < REPEAT; i++) {
+                tasks.add(asUser(userId, () -> likeService.like(Like.TargetType.POST, postId)));
+            }
+        }
+
+        List<LikeStateResponse> results = runConcurrently(tasks);
+
+        assertThat(results).allMatch(LikeStateResponse::isLiked);
+        assertThat(likeRows()).isEqualTo(USERS);
+        assertThat(likeCount()).isEqualTo(USERS);
+    }
+
+    @Test
+    void concurrentMixedOperationsKeepCountConsistent() throws Exception {
+        List<Callable<LikeStateResponse>> tasks = new ArrayList<>();
+        for (Integer userId : userIds) {
+            for (int i = 0; i < REPEAT; i++) {
+                Callable<LikeStateResponse> operation = switch (i % 3) {
+                    case 0 -> () -> likeService.like(Like.TargetType.POST, postId);
+                    case 1 -> () -> likeService.unlike(Like.TargetType.POST, postId);
+                    default -> () -> likeService.toggleLike(Like.TargetType.POST, postId);
+                };
+                tasks.add(asUser(userId, operation));
+            }
+        }
+
+        runConcurrently(tasks);
+
+        assertThat(likeCount()).isEqualTo(likeRows());
+        assertThat(likeRows()).isBetween(0, USERS);
+    }
+
+    @Test
+    void likeThenUnlikeIsIdempotent() throws Exception {
+        Integer userId = userIds.get(0);
+
+        assertThat(asUser(userId, () -> likeService.like(Like.TargetType.POST, postId)).call().getLikeCount()).isEqualTo(1);
+        assertThat(asUser(userId, () -> likeService.like(Like.TargetType.POST, postId)).call().getLikeCount()).isEqualTo(1);
+        assertThat(asUser(userId, () -> likeService.unlike(Like.TargetType.POST, postId)).call().getLikeCount()).isZero();
+        assertThat(asUser(userId, () -> likeService.unlike(Like.TargetType.POST, postId)).call().getLikeCount()).isZero();
+    }
+
+    private List<LikeStateResponse> runConcurrently(List<Callable<LikeStateResponse>> tasks) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<LikeStateResponse>> futures = new ArrayList<>();
+            for (Callable<LikeStateResponse> task : tasks) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+
+            List<LikeStateResponse> results = new ArrayList<>();
+            for (Future<LikeStateResponse> future : futures) {
+                // 유니크 키 충돌 등 예외가 있으면 여기서 ExecutionException으로 실패
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Callable<LikeStateResponse> asUser(Integer userId, Callable<LikeStateResponse> operation) {
+        return () -> {
+            User user = User.builder().id(userId).username("liker").build();
+            SecurityContextHolder.getContext().setAuthentication(
+                    new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+            try {
+                return operation.call();
+            } finally {
+                SecurityContextHolder.clearContext();
+            }
+        };
+    }
+
+    private int likeRows() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM likes WHERE target_type = 'POST' AND target_id = ?",
+                Integer.class, postId);
+    }
+
+    private int likeCount() {
+        return jdbcTemplate.queryForObject("SELECT like_count FROM posts WHERE id = ?", Integer.class, postId);
+    }
+}
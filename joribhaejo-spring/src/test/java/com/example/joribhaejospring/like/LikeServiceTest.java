@@ -0,0 +1,113 @@
+package com.example.joribhaejospring.like;
+
+import com.example.joribhaejospring.comment.CommentRepository;
+import com.example.joribhaejospring.like.dto.LikeStateResponse;
+import com.example.joribhaejospring.post.PostRepository;
+import com.example.joribhaejospring.user.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 토글은 삽입을 먼저 시도하고, InnoDB 교착으로 롤백되면 새 트랜잭션으로 다시 시도해야 함 (H2에서는 교착이 재현되지 않음)
+@ExtendWith(MockitoExtension.class)
+class LikeServiceTest {
+    private static final int USER_ID = 7;
+    private static final int POST_ID = 3;
+
+    @Mock
+    private LikeRepository likeRepository;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private LikedSetCache likedSetCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private LikeService likeService;
+
+    @BeforeEach
+    void setUp() {
+        likeService = new LikeService(likeRepository, postRepository, commentRepository, likedSetCache,
+                eventPublisher, new TransactionTemplate(transactionManager));
+
+        User user = User.builder().id(USER_ID).username("liker").build();
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void toggleInsertsBeforeDeleting() {
+        when(likeRepository.insertIgnore(USER_ID, "POST", POST_ID)).thenReturn(0);
+        when(likeRepository.deleteByKey(USER_ID, "POST", POST_ID)).thenReturn(1);
+        when(postRepository.addLikeCount(POST_ID, -1)).thenReturn(1);
+        when(postRepository.findLikeCount(POST_ID)).thenReturn(Optional.of(0));
+
+        LikeStateResponse response = likeService.toggleLike(Like.TargetType.POST, POST_ID);
+
+        assertThat(response.isLiked()).isFalse();
+        InOrder order = inOrder(likeRepository);
+        order.verify(likeRepository).insertIgnore(USER_ID, "POST", POST_ID);
+        order.verify(likeRepository).deleteByKey(USER_ID, "POST", POST_ID);
+    }
+
+    @Test
+    void toggleRetriesAfterDeadlock() {
+        when(likeRepository.insertIgnore(USER_ID, "POST", POST_ID))
+                .thenThrow(new CannotAcquireLockException("Deadlock found when trying to get lock"))
+                .thenReturn(1);
+        when(postRepository.addLikeCount(POST_ID, 1)).thenReturn(1);
+        when(postRepository.findLikeCount(POST_ID)).thenReturn(Optional.of(1));
+
+        LikeStateResponse response = likeService.toggleLike(Like.TargetType.POST, POST_ID);
+
+        assertThat(response.isLiked()).isTrue();
+        assertThat(response.getLikeCount()).isEqualTo(1);
+        verify(transactionManager).rollback(null);
+        verify(transactionManager).commit(null);
+        verify(likeRepository, never()).deleteByKey(USER_ID, "POST", POST_ID);
+    }
+
+    @Test
+    void toggleGivesUpAfterRepeatedDeadlocks() {
+        when(likeRepository.insertIgnore(USER_ID, "POST", POST_ID))
+                .thenThrow(new CannotAcquireLockException("Deadlock found when trying to get lock"));
+
+        assertThatThrownBy(() -> likeService.toggleLike(Like.TargetType.POST, POST_ID))
+                .isInstanceOf(CannotAcquireLockException.class);
+        verify(transactionManager, times(3)).rollback(null);
+    }
+}
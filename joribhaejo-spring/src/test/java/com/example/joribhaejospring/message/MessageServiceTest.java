@@ -0,0 +1,134 @@
+package com.example.joribhaejospring.message;
+
+import com.example.joribhaejospring.user.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 보내기·읽기·삭제에 따라 안 읽은 쪽지 수 카운터가 messages.is_read와 일치하고, 어긋난 카운터는 보정되어야 함
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({MessageService.class, UnreadMessageCountReconciler.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "test.database=messages",
+        "unread-message-count.reconcile-chunk-size=1"
+})
+class MessageServiceTest {
+    @Autowired
+    private MessageService messageService;
+
+    @Autowired
+    private UnreadMessageCountReconciler reconciler;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    // SSE 전송은 이 테스트 대상이 아님
+    @MockitoBean
+    private MessageStreamRegistry messageStreamRegistry;
+
+    @MockitoBean
+    private MessageStreamTickets messageStreamTickets;
+
+    private Integer senderId;
+    private Integer receiverId;
+
+    @BeforeEach
+    void setUp() {
+        senderId = insertUser("sender");
+        receiverId = insertUser("receiver");
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        jdbcTemplate.update("DELETE FROM messages");
+        jdbcTemplate.update("DELETE FROM users");
+        // JDBC로 지운 사용자가 2차 캐시에 남지 않도록
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+    }
+
+    @Test
+    void sendReadAndDeleteKeepCounterInSync() {
+        loginAs(senderId, "sender");
+        MessageDto first = messageService.sendMessage("receiver", "first");
+        MessageDto second = messageService.sendMessage("receiver", "second");
+        assertThat(unreadCount(receiverId)).isEqualTo(2);
+
+        loginAs(receiverId, "receiver");
+        assertThat(messageService.getMessageDetail(first.getId()).getRead()).isTrue();
+        // 두 번 읽어도 한 번만 줄어듦
+        messageService.getMessageDetail(first.getId());
+        assertThat(messageService.getUnreadCount()).isEqualTo(1);
+
+        // 안 읽은 채로 삭제해도 카운터를 맞춤
+        messageService.deleteMessage(second.getId());
+        assertThat(messageService.getUnreadCount()).isZero();
+    }
+
+    @Test
+    void counterDoesNotGoNegativeForMessagesFromBeforeTheCounter() {
+        // 카운터 도입 전에 들어온 안 읽은 쪽지 (카운터는 0)
+        Integer messageId = insertMessage();
+
+        loginAs(receiverId, "receiver");
+        messageService.getMessageDetail(messageId);
+
+        assertThat(unreadCount(receiverId)).isZero();
+    }
+
+    @Test
+    void reconcilerRecomputesDriftedCounters() {
+        insertMessage();
+        insertMessage();
+        jdbcTemplate.update("UPDATE users SET unread_message_count = 5 WHERE id = ?", senderId);
+
+        reconciler.reconcile();
+
+        assertThat(unreadCount(receiverId)).isEqualTo(2);
+        assertThat(unreadCount(senderId)).isZero();
+    }
+
+    private Integer insertUser(String username) {
+        jdbcTemplate.update("INSERT INTO users (username, email, password) VALUES (?, ?, 'password')",
+                username, username + "@test.local");
+        return jdbcTemplate.queryForObject("SELECT id FROM users WHERE username = ?", Integer.class, username);
+    }
+
+    private Integer insertMessage() {
+        jdbcTemplate.update("INSERT INTO messages (sender_id, receiver_id, content) VALUES (?, ?, 'legacy')",
+                senderId, receiverId);
+        return jdbcTemplate.queryForObject("SELECT MAX(id) FROM messages", Integer.class);
+    }
+
+    private int unreadCount(Integer userId) {
+        return jdbcTemplate.queryForObject("SELECT unread_message_count FROM users WHERE id = ?", Integer.class, userId);
+    }
+
+    private static void loginAs(Integer userId, String username) {
+        User user = User.builder().id(userId).username(username).build();
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+}
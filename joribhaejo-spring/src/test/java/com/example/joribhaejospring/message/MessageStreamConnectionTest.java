@@ -0,0 +1,174 @@
+package com.example.joribhaejospring.message;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+class MessageStreamConnectionTest {
+    private SseEmitter emitter;
+    private AtomicInteger closes;
+
+    @BeforeEach
+    void setUp() {
+        emitter = mock(SseEmitter.class);
+        closes = new AtomicInteger();
+    }
+
+    @Test
+    void holdsLiveMessagesUntilReplayFinishesAndDropsDuplicates() throws IOException {
+        MessageStreamConnection connection = connection(8);
+        // 재전송 조회 중에 커밋된 쪽지 (3은 재전송 결과에도 포함됨)
+        connection.deliver(message(3));
+        connection.deliver(message(4));
+        verify(emitter, never()).send(any(SseEmitter.SseEventBuilder.class));
+
+        connection.finishReplay(List.of(message(2), message(3)), false);
+        connection.deliver(message(5));
+
+        assertThat(sentEvents()).containsExactly("id:2 message", "id:3 message", "id:4 message", "id:5 message");
+    }
+
+    @Test
+    void sameMessageFromEventAndPollIsSentOnce() throws IOException {
+        MessageStreamConnection connection = connection(8);
+        connection.finishReplay(List.of(), false);
+
+        connection.deliver(message(7));
+        // 다른 경로(DB 폴링)로 같은 쪽지가 다시 들어옴
+        connection.deliver(message(7));
+        connection.deliver(message(8));
+
+        assertThat(sentEvents()).containsExactly("id:7 message", "id:8 message");
+    }
+
+    @Test
+    void stalledSendIsAbortedWithoutBlockingCaller() throws Exception {
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        doAnswer((invocation) -> {
+            sending.countDown();
+            try {
+                // 소켓 버퍼가 가득 찬 클라이언트
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw new IOException("interrupted");
+            }
+            return null;
+        }).when(emitter).send(any(SseEmitter.SseEventBuilder.class));
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            MessageStreamConnection connection = new MessageStreamConnection(1, emitter, 8, executor,
+                    closes::incrementAndGet);
+            connection.finishReplay(List.of(), false);
+            connection.deliver(message(1));
+            assertThat(sending.await(5, TimeUnit.SECONDS)).isTrue();
+
+            assertThat(connection.isStalled(System.currentTimeMillis(), 60_000)).isFalse();
+            assertThat(connection.isStalled(System.currentTimeMillis() + 60_001, 60_000)).isTrue();
+
+            connection.abort();
+
+            assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(connection.isClosed()).isTrue();
+            assertThat(closes).hasValue(1);
+            verify(emitter, timeout(5000)).complete();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void truncatedReplayAsksClientToResync() throws IOException {
+        MessageStreamConnection connection = connection(8);
+
+        connection.finishReplay(List.of(message(2)), true);
+
+        assertThat(sentEvents()).containsExactly("id:2 message", "resync");
+    }
+
+    @Test
+    void slowClientIsDisconnectedWhenBufferOverflows() {
+        // 전송 스레드가 돌지 않는 실행기: 큐에 쌓이기만 함
+        MessageStreamConnection connection = new MessageStreamConnection(1, emitter, 2, (task) -> { },
+                closes::incrementAndGet);
+        connection.finishReplay(List.of(), false);
+
+        connection.deliver(message(1));
+        connection.deliver(message(2));
+        assertThat(connection.isClosed()).isFalse();
+        connection.deliver(message(3));
+
+        assertThat(connection.isClosed()).isTrue();
+        assertThat(closes).hasValue(1);
+        verify(emitter).complete();
+    }
+
+    @Test
+    void sendFailureClosesConnectionOnce() throws IOException {
+        MessageStreamConnection connection = connection(8);
+        connection.finishReplay(List.of(), false);
+        doThrow(new IOException("broken pipe")).when(emitter).send(any(SseEmitter.SseEventBuilder.class));
+
+        connection.deliver(message(1));
+        connection.deliver(message(2));
+        connection.close();
+
+        assertThat(connection.isClosed()).isTrue();
+        assertThat(closes).hasValue(1);
+    }
+
+    private MessageStreamConnection connection(int bufferSize) {
+        // 전송을 호출한 스레드에서 바로 실행
+        return new MessageStreamConnection(1, emitter, bufferSize, Runnable::run, closes::incrementAndGet);
+    }
+
+    // 이벤트를 "id:<id> <name>" 또는 "<name>" 형태로 요약
+    private List<String> sentEvents() throws IOException {
+        ArgumentCaptor<SseEmitter.SseEventBuilder> captor = ArgumentCaptor.forClass(SseEmitter.SseEventBuilder.class);
+        verify(emitter, atLeastOnce()).send(captor.capture());
+        return captor.getAllValues().stream()
+                .map((event) -> event.build().stream()
+                        .map((part) -> part.getData() instanceof String text ? text : "")
+                        .collect(Collectors.joining()))
+                .map(MessageStreamConnectionTest::summarize)
+                .toList();
+    }
+
+    private static String summarize(String raw) {
+        String id = null;
+        String name = null;
+        for (String line : raw.split("\n")) {
+            if (line.startsWith("id:")) {
+                id = line;
+            } else if (line.startsWith("event:")) {
+                name = line.substring("event:".length());
+            }
+        }
+        return id == null ? name : id + " " + name;
+    }
+
+    private static MessageDto message(int id) {
+        return MessageDto.builder().id(id).receiverId(1).content("content " + id).build();
+    }
+}
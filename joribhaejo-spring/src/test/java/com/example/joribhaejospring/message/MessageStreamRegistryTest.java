@@ -0,0 +1,119 @@
+package com.example.joribhaejospring.message;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MessageStreamRegistryTest {
+    private static final int REPLAY_LIMIT = 3;
+
+    private MessageRepository messageRepository;
+    private MessageStreamRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        messageRepository = mock(MessageRepository.class);
+        registry = new MessageStreamRegistry(messageRepository, Duration.ofMinutes(1), 8, REPLAY_LIMIT,
+                Duration.ofSeconds(30), Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        registry.shutdown();
+    }
+
+    @Test
+    void countsEveryTabAsConnection() {
+        registry.connect(1, null);
+        registry.connect(1, null);
+        registry.connect(2, null);
+
+        assertThat(registry.getConnectionCount()).isEqualTo(3);
+        // 처음 연결은 놓친 쪽지를 조회하지 않음
+        verify(messageRepository, never()).findInboxSince(anyInt(), anyInt(), any());
+    }
+
+    @Test
+    void reconnectReplaysFromLastEventIdWithOneExtraRowToDetectTruncation() {
+        when(messageRepository.findInboxSince(1, 10, PageRequest.of(0, REPLAY_LIMIT + 1))).thenReturn(List.of());
+
+        registry.connect(1, 10);
+
+        verify(messageRepository).findInboxSince(1, 10, PageRequest.of(0, REPLAY_LIMIT + 1));
+    }
+
+    @Test
+    void failedReplayDoesNotLeakConnection() {
+        when(messageRepository.findInboxSince(anyInt(), anyInt(), any())).thenThrow(new IllegalStateException("db down"));
+
+        assertThatThrownBy(() -> registry.connect(1, 10)).isInstanceOf(IllegalStateException.class);
+        assertThat(registry.getConnectionCount()).isZero();
+    }
+
+    @Test
+    void sentMessageIsLoadedOnceForAllTabsOfReceiver() {
+        when(messageRepository.findDtoById(5)).thenReturn(Optional.of(MessageDto.builder().id(5).receiverId(1).build()));
+        registry.connect(1, null);
+        registry.connect(1, null);
+
+        registry.onMessageSent(new MessageSentEvent(5, 1));
+
+        verify(messageRepository).findDtoById(5);
+    }
+
+    @Test
+    void sentMessageToOfflineUserSkipsDatabase() {
+        registry.connect(1, null);
+
+        registry.onMessageSent(new MessageSentEvent(5, 2));
+
+        verify(messageRepository, never()).findDtoById(any());
+    }
+
+    @Test
+    void pollReadsOnlyMessagesOfLocallyConnectedReceivers() {
+        registry.connect(1, null);
+        registry.connect(2, null);
+
+        registry.poll();
+
+        ArgumentCaptor<Collection<Integer>> receivers = ArgumentCaptor.captor();
+        verify(messageRepository).findInboxOfReceiversSince(receivers.capture(), any());
+        assertThat(receivers.getValue()).containsExactlyInAnyOrder(1, 2);
+    }
+
+    @Test
+    void pollSkipsDatabaseWithoutConnections() {
+        registry.poll();
+
+        verify(messageRepository, never()).findInboxOfReceiversSince(any(), any());
+    }
+
+    @Test
+    void shutdownClosesAllConnections() {
+        registry.connect(1, null);
+        registry.connect(2, null);
+
+        registry.shutdown();
+
+        assertThat(registry.getConnectionCount()).isZero();
+        registry.onMessageSent(new MessageSentEvent(5, 1));
+        verify(messageRepository, never()).findDtoById(any());
+    }
+}
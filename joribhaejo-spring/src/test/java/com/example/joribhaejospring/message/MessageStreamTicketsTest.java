@@ -0,0 +1,112 @@
+package com.example.joribhaejospring.message;
+
+import com.example.joribhaejospring.common.JwtProperties;
+import com.example.joribhaejospring.common.JwtUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MessageStreamTicketsTest {
+    private static final Duration TTL = Duration.ofSeconds(30);
+
+    private JwtUtil jwtUtil;
+    private MutableClock clock;
+    private MessageStreamTickets tickets;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        ReflectionTestUtils.setField(jwtProperties, "JWT_SECRET", "test-secret-key-test-secret-key-test-secret-key-0123456789");
+        ReflectionTestUtils.setField(jwtProperties, "JWT_ACCESS_EXP", 3_600_000L);
+        jwtUtil = new JwtUtil(jwtProperties);
+        ReflectionTestUtils.invokeMethod(jwtUtil, "init");
+        // 서명 검증의 만료 확인은 실제 시계를 쓰므로 현재 시각에서 시작
+        clock = new MutableClock(Instant.now());
+        tickets = new MessageStreamTickets(jwtUtil, clock, TTL);
+    }
+
+    @Test
+    void ticketCanBeRedeemedOnlyOnce() {
+        String ticket = tickets.issue(7);
+
+        assertThat(tickets.redeem(ticket)).contains(7);
+        // 접근 로그 등으로 유출된 티켓은 다시 쓸 수 없음
+        assertThat(tickets.redeem(ticket)).isEmpty();
+    }
+
+    @Test
+    void expiredOrUnknownTicketIsRejected() {
+        String ticket = tickets.issue(7);
+        clock.advance(TTL.plusMillis(1));
+
+        assertThat(tickets.redeem(ticket)).isEmpty();
+        assertThat(tickets.redeem("unknown")).isEmpty();
+        assertThat(tickets.redeem(null)).isEmpty();
+    }
+
+    @Test
+    void ticketIssuedByAnotherInstanceIsAccepted() {
+        // 같은 서명 키를 쓰는 다른 인스턴스
+        MessageStreamTickets otherInstance = new MessageStreamTickets(jwtUtil, clock, TTL);
+
+        assertThat(otherInstance.redeem(tickets.issue(7))).contains(7);
+    }
+
+    @Test
+    void ticketIsNotAnAccessTokenAndAccessTokenIsNotATicket() {
+        String ticket = tickets.issue(7);
+        String refreshToken = jwtUtil.generateRefreshToken(7, "token-id", "family-id",
+                new Date(clock.millis() + TTL.toMillis()));
+
+        assertThat(jwtUtil.isAccessToken(jwtUtil.parseClaims(ticket))).isFalse();
+        assertThat(tickets.redeem(refreshToken)).isEmpty();
+        assertThat(tickets.redeem(ticket + "x")).isEmpty();
+    }
+
+    @Test
+    void evictExpiredForgetsOnlyExpiredRedeemedIds() {
+        tickets.redeem(tickets.issue(1));
+        clock.advance(TTL.plusMillis(1));
+        tickets.redeem(tickets.issue(2));
+
+        tickets.evictExpired();
+
+        assertThat(tickets.size()).isEqualTo(1);
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        private void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.joribhaejospring.post;
+
+import com.example.joribhaejospring.board.BoardRepository;
+import com.example.joribhaejospring.board.BoardService;
+import com.example.joribhaejospring.common.exception.InvalidRequestException;
+import com.example.joribhaejospring.like.Like;
+import com.example.joribhaejospring.like.LikeService;
+import com.example.joribhaejospring.post.dto.PageResponse;
+import com.example.joribhaejospring.post.dto.PostSummaryResponse;
+import com.example.joribhaejospring.post.search.PostSearchIndex;
+import com.example.joribhaejospring.post.trending.TrendingPostRanker;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PostServiceTest {
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private BoardRepository boardRepository;
+
+    @Mock
+    private BoardService boardService;
+
+    @Mock
+    private ViewCountBuffer viewCountBuffer;
+
+    @Mock
+    private PostSearchIndex postSearchIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private LikeService likeService;
+
+    @Mock
+    private TrendingPostRanker trendingPostRanker;
+
+    @InjectMocks
+    private PostService postService;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 50})
+    void getPostsIssuesConstantQueriesRegardlessOfPageSize(int size) {
+        List<PostSummaryResponse> posts = IntStream.rangeClosed(1, size)
+                .mapToObj(id -> summary(id, 0, id))
+                .toList();
+        PageRequest pageable = PageRequest.of(0, size);
+
+        when(postRepository.findSummaries(anyInt(), isNull(), anyString(), anyInt(), any()))
+                .thenReturn(new PageImpl<>(posts, pageable, size));
+
+        PageResponse<PostSummaryResponse> response = postService.getPosts(1, null, null, true, pageable);
+
+        assertThat(response.getContent()).hasSize(size);
+        // 좋아요 수와 작성자는 요약 프로젝션 한 번으로 함께 조회되어야 함
+        assertThat(response.getContent()).allMatch(post -> post.getLikeCount().equals(post.getId()));
+        assertThat(mockingDetails(postRepository).getInvocations()).hasSize(1);
+        verifyNoInteractions(boardRepository);
+    }
+
+    @Test
+    void getPostsSkipsBodyAndMergesPendingViews() {
+        PageRequest pageable = PageRequest.of(0, 10);
+        when(postRepository.findSummaries(eq(1), isNull(), eq(""), eq(0), eq(pageable)))
+                .thenReturn(new PageImpl<>(List.of(summary(1, 5, 0), summary(2, 7, 0)), pageable, 2));
+        when(viewCountBuffer.getPending(1)).thenReturn(3L);
+
+        PageResponse<PostSummaryResponse> response = postService.getPosts(1, null, null, false, pageable);
+
+        assertThat(response.getContent()).extracting(PostSummaryResponse::getViewCount).containsExactly(8, 7);
+    }
+
+    @Test
+    void getPostsFlagsLikedByMeFromLikedSet() {
+        PageRequest pageable = PageRequest.of(0, 10);
+        when(postRepository.findSummaries(anyInt(), isNull(), anyString(), anyInt(), any()))
+                .thenReturn(new PageImpl<>(List.of(summary(1, 0, 0), summary(2, 0, 0)), pageable, 2));
+        when(likeService.findLikedSetOfCurrentUser(Like.TargetType.POST))
+                .thenReturn(Optional.of(RoaringBitmap.bitmapOf(2)));
+
+        PageResponse<PostSummaryResponse> response = postService.getPosts(1, null, null, true, pageable);
+
+        assertThat(response.getContent()).extracting(PostSummaryResponse::getLikedByMe).containsExactly(false, true);
+        // 좋아요 여부는 DB를 추가로 조회하지 않고 캐시된 집합에서 판별
+        assertThat(mockingDetails(postRepository).getInvocations()).hasSize(1);
+    }
+
+    // size 0은 빈 결과에서 다음 커서를 만들다 실패하고, 상한이 없으면 size + 1이 넘침
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1, 101, Integer.MAX_VALUE})
+    void getPostsByCursorRejectsOutOfRangeSize(int size) {
+        assertThatThrownBy(() -> postService.getPostsByCursor(1, null, null, size, true))
+                .isInstanceOf(InvalidRequestException.class);
+        verifyNoInteractions(postRepository);
+    }
+
+    @Test
+    void getPostsByCursorRejectsMalformedCursor() {
+        assertThatThrownBy(() -> postService.getPostsByCursor(1, null, "not-a-cursor", 10, true))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+
+    private static PostSummaryResponse summary(int id, int viewCount, int likeCount) {
+        return PostSummaryResponse.builder()
+                .id(id)
+                .boardId(1)
+                .authorId(1)
+                .author("writer")
+                .title("title " + id)
+                .viewCount(viewCount)
+                .likeCount(likeCount)
+                .build();
+    }
+}
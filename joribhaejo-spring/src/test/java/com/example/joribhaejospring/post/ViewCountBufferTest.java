@@ -0,0 +1,122 @@
+package com.example.joribhaejospring.post;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ViewCountBufferTest {
+    private static final int READERS = 300;
+    private static final int VIEWS_PER_READER = 2_000;
+    private static final int POSTS = 5;
+
+    @Test
+    void concurrentReadersLoseNoIncrementsWhileFlushing() throws Exception {
+        // 배치 UPDATE 대신 게시글별 누적값을 기록
+        Map<Integer, AtomicLong> flushed = new ConcurrentHashMap<>();
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+            List<Object[]> batchArgs = invocation.getArgument(1);
+            for (Object[] args : batchArgs) {
+                flushed.computeIfAbsent((Integer) args[1], id -> new AtomicLong()).addAndGet((Long) args[0]);
+            }
+            return new int[batchArgs.size()];
+        });
+        ViewCountBuffer buffer = new ViewCountBuffer(jdbcTemplate, transactionTemplate());
+
+        AtomicBoolean reading = new AtomicBoolean(true);
+        Thread flusher = new Thread(() -> {
+            while (reading.get()) {
+                buffer.flush();
+            }
+        });
+        flusher.start();
+
+        ExecutorService readers = Executors.newFixedThreadPool(READERS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> results = new ArrayList<>();
+        for (int reader = 0; reader < READERS; reader++) {
+            int offset = reader;
+            results.add(readers.submit(() -> {
+                start.await();
+                for (int view = 0; view < VIEWS_PER_READER; view++) {
+                    buffer.increment((offset + view) % POSTS + 1);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> result : results) {
+            result.get(30, TimeUnit.SECONDS);
+        }
+        readers.shutdown();
+
+        reading.set(false);
+        flusher.join();
+        buffer.flush();
+
+        long expectedPerPost = (long) READERS * VIEWS_PER_READER / POSTS;
+        assertThat(flushed).hasSize(POSTS);
+        assertThat(flushed.values()).allMatch(total -> total.get() == expectedPerPost);
+        for (int postId = 1; postId <= POSTS; postId++) {
+            assertThat(buffer.getPending(postId)).isZero();
+        }
+    }
+
+    @Test
+    void failedFlushRollsBackAndKeepsEveryDeltaForNextFlush() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new DataIntegrityViolationException("batch failed"));
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        ViewCountBuffer buffer = new ViewCountBuffer(jdbcTemplate, new TransactionTemplate(transactionManager));
+        buffer.increment(1);
+        buffer.increment(1);
+        buffer.increment(2);
+
+        buffer.flush();
+
+        // 배치 전체가 롤백되므로 되돌려 놓은 증가분이 중복 반영되지 않음
+        verify(transactionManager).rollback(any());
+        verify(transactionManager, never()).commit(any());
+        assertThat(buffer.getPending(1)).isEqualTo(2);
+        assertThat(buffer.getPending(2)).isEqualTo(1);
+    }
+
+    @Test
+    void pendingViewsAreVisibleBeforeFlush() {
+        ViewCountBuffer buffer = new ViewCountBuffer(mock(JdbcTemplate.class), transactionTemplate());
+
+        buffer.increment(1);
+        buffer.increment(1);
+
+        assertThat(buffer.getPending(1)).isEqualTo(2);
+        assertThat(buffer.getPending(2)).isZero();
+    }
+
+    private static TransactionTemplate transactionTemplate() {
+        return new TransactionTemplate(mock(PlatformTransactionManager.class));
+    }
+}
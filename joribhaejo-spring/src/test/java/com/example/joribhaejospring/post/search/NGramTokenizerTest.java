@@ -0,0 +1,40 @@
+package com.example.joribhaejospring.post.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NGramTokenizerTest {
+    @Test
+    void splitsWordsIntoBigramsAndCountsRepeats() {
+        Map<String, Integer> frequencies = NGramTokenizer.termFrequencies("스프링부트 스프링");
+
+        assertThat(frequencies).containsOnly(
+                Map.entry("스프", 2),
+                Map.entry("프링", 2),
+                Map.entry("링부", 1),
+                Map.entry("부트", 1));
+    }
+
+    @Test
+    void bigramsDoNotCrossWordBoundaries() {
+        // "a-b" 사이의 기호에서 끊기므로 "ab"는 생기지 않음
+        assertThat(NGramTokenizer.termFrequencies("a-b, 가나!")).containsOnlyKeys("a", "b", "가나");
+    }
+
+    @Test
+    void normalizesCaseAndFullWidthCharacters() {
+        assertThat(NGramTokenizer.termFrequencies("ＪＡＶＡ Java"))
+                .isEqualTo(NGramTokenizer.termFrequencies("java java"))
+                .containsEntry("ja", 2);
+    }
+
+    @Test
+    void emptyOrSymbolOnlyTextHasNoTerms() {
+        assertThat(NGramTokenizer.termFrequencies(null)).isEmpty();
+        assertThat(NGramTokenizer.termFrequencies("")).isEmpty();
+        assertThat(NGramTokenizer.termFrequencies("!? ...")).isEmpty();
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.joribhaejospring.post.search;
+
+import com.example.joribhaejospring.board.Board;
+import com.example.joribhaejospring.post.Post;
+import com.example.joribhaejospring.post.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PostSearchIndexTest {
+    private static final PageRequest FIRST_PAGE = PageRequest.of(0, 10);
+
+    private PostRepository postRepository;
+    private PostSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        postRepository = mock(PostRepository.class);
+        index = new PostSearchIndex(postRepository);
+        ReflectionTestUtils.setField(index, "rebuildChunkSize", 2);
+    }
+
+    @Test
+    void rebuildIndexesAllChunksAndBecomesReady() {
+        when(postRepository.findByIdGreaterThanOrderByIdAsc(eq(0), any()))
+                .thenReturn(List.of(post(1, "스프링 입문", "본문"), post(2, "리액트 입문", "본문")));
+        when(postRepository.findByIdGreaterThanOrderByIdAsc(eq(2), any()))
+                .thenReturn(List.of(post(3, "스프링 심화", "본문")));
+        assertThat(index.isReady()).isFalse();
+
+        index.rebuild();
+
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(search("스프링").getContent()).containsExactlyInAnyOrder(1, 3);
+    }
+
+    @Test
+    void failedRebuildStaysNotReadySoLikeSearchIsUsed() {
+        when(postRepository.findByIdGreaterThanOrderByIdAsc(eq(0), any()))
+                .thenReturn(List.of(post(1, "스프링 입문", "본문"), post(2, "리액트 입문", "본문")));
+        when(postRepository.findByIdGreaterThanOrderByIdAsc(eq(2), any()))
+                .thenThrow(new IllegalStateException("db down"));
+
+        assertThat(index.rebuild()).isFalse();
+
+        assertThat(index.isReady()).isFalse();
+        // 반쯤 만든 색인과 변경 기록을 남기지 않음
+        assertThat(index.size()).isZero();
+        assertThat(ReflectionTestUtils.getField(index, "changedDuringRebuild")).isNull();
+    }
+
+    @Test
+    void failedRebuildIsRetriedInBackground() throws InterruptedException {
+        ReflectionTestUtils.setField(index, "rebuildRetryDelay", 10L);
+        ReflectionTestUtils.setField(index, "rebuildRetryMaxDelay", 50L);
+        when(postRepository.findByIdGreaterThanOrderByIdAsc(eq(0), any()))
+                .thenThrow(new IllegalStateException("db down"))
+                .thenThrow(new IllegalStateException("db down"))
+                .thenReturn(List.of(post(1, "스프링 입문", "본문")));
+
+        index.scheduleRebuild();
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!index.isReady() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        index.shutdown();
+        assertThat(index.isReady()).isTrue();
+        assertThat(search("스프링").getContent()).containsExactly(1);
+    }
+
+    @Test
+    void requiresEveryTermOfTheKeyword() {
+        save(1, 1, Post.PostCategory.BACK, "스프링 트랜잭션", "");
+        save(2, 1, Post.PostCategory.BACK, "스프링 시큐리티", "");
+
+        assertThat(search("스프링 트랜잭션").getContent()).containsExactly(1);
+        assertThat(search("트랜잭션 시큐리티").getContent()).isEmpty();
+        assertThat(search("없는단어").getContent()).isEmpty();
+        assertThat(search("!!").getContent()).isEmpty();
+    }
+
+    @Test
+    void filtersByBoardAndCategory() {
+        save(1, 1, Post.PostCategory.BACK, "도커 배포", "");
+        save(2, 1, Post.PostCategory.DEVOPS, "도커 배포", "");
+        save(3, 2, Post.PostCategory.BACK, "도커 배포", "");
+
+        assertThat(index.search(1, null, "도커", FIRST_PAGE).getContent()).containsExactlyInAnyOrder(1, 2);
+        assertThat(index.search(1, Post.PostCategory.DEVOPS, "도커", FIRST_PAGE).getContent()).containsExactly(2);
+        assertThat(index.search(2, null, "도커", FIRST_PAGE).getContent()).containsExactly(3);
+    }
+
+    @Test
+    void titleMatchOutranksBodyMatch() {
+        save(1, 1, Post.PostCategory.ETC, "일상 이야기", "쿠버네티스 이야기");
+        save(2, 1, Post.PostCategory.ETC, "쿠버네티스 이야기", "일상 이야기");
+
+        assertThat(search("쿠버네티스").getContent()).containsExactly(2, 1);
+    }
+
+    @Test
+    void shorterPostRanksHigherForSameTermFrequency() {
+        // BM25 길이 정규화: 같은 빈도라면 평균보다 긴 글의 점수가 낮음
+        save(1, 1, Post.PostCategory.ETC, "", "그래프 데이터베이스 " + "관련 없는 내용 ".repeat(50));
+        save(2, 1, Post.PostCategory.ETC, "", "그래프 데이터베이스");
+
+        assertThat(search("그래프").getContent()).containsExactly(2, 1);
+    }
+
+    @Test
+    void updateReplacesOldTermsAndDeleteRemovesPost() {
+        save(1, 1, Post.PostCategory.ETC, "자바 기초", "");
+        save(1, 1, Post.PostCategory.ETC, "코틀린 기초", "");
+
+        assertThat(search("자바").getContent()).isEmpty();
+        assertThat(search("코틀린").getContent()).containsExactly(1);
+        assertThat(index.size()).isEqualTo(1);
+
+        index.onPostChanged(PostChangedEvent.deleted(1));
+
+        assertThat(search("코틀린").getContent()).isEmpty();
+        assertThat(search("기초").getContent()).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void pagesRankedResultsWithTotalCount() {
+        for (int id = 1; id <= 5; id++) {
+            save(id, 1, Post.PostCategory.ETC, "알고리즘 " + id, "");
+        }
+
+        Page<Integer> second = index.search(1, null, "알고리즘", PageRequest.of(1, 2));
+
+        assertThat(second.getTotalElements()).isEqualTo(5);
+        // 점수가 같으면 최신(id 큰) 글 먼저
+        assertThat(second.getContent()).containsExactly(3, 2);
+    }
+
+    private Page<Integer> search(String keyword) {
+        return index.search(1, null, keyword, FIRST_PAGE);
+    }
+
+    private void save(int postId, int boardId, Post.PostCategory category, String title, String content) {
+        index.onPostChanged(new PostChangedEvent(postId, boardId, category, title, content, false));
+    }
+
+    private static Post post(int id, String title, String content) {
+        return Post.builder()
+                .id(id)
+                .board(Board.builder().id(1).build())
+                .title(title)
+                .content(content)
+                .category(Post.PostCategory.ETC)
+                .build();
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.joribhaejospring.post.trending;
+
+import com.example.joribhaejospring.like.Like;
+import com.example.joribhaejospring.like.LikeChangedEvent;
+import com.example.joribhaejospring.post.Post;
+import com.example.joribhaejospring.post.PostRepository;
+import com.example.joribhaejospring.post.search.PostChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TrendingPostRankerTest {
+    private static final Duration HALF_LIFE = Duration.ofHours(6);
+
+    private PostRepository postRepository;
+    private MutableClock clock;
+    private TrendingPostRanker ranker;
+
+    @BeforeEach
+    void setUp() {
+        postRepository = mock(PostRepository.class);
+        clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+        ranker = new TrendingPostRanker(postRepository, clock, HALF_LIFE, 3, Duration.ofDays(3),
+                1, 5, 3, 0.05);
+    }
+
+    @Test
+    void recentActivityOutranksOlderActivityAfterDecay() {
+        // 1번: 조회 10회, 2번: 한 반감기 뒤 조회 6회 → 시점 보정 시 10/2 = 5 < 6
+        for (int i = 0; i < 10; i++) {
+            ranker.recordView(1, 1, Post.PostCategory.WEB);
+        }
+        ranker.snapshot();
+        assertThat(ranker.getTopPostIds(1, null, 10)).containsExactly(1);
+
+        clock.advance(HALF_LIFE);
+        for (int i = 0; i < 6; i++) {
+            ranker.recordView(2, 1, Post.PostCategory.AI);
+        }
+        ranker.snapshot();
+
+        assertThat(ranker.getTopPostIds(1, null, 10)).containsExactly(2, 1);
+        assertThat(ranker.getTopPostIds(1, Post.PostCategory.WEB, 10)).containsExactly(1);
+        assertThat(ranker.getTopPostIds(2, null, 10)).isEmpty();
+    }
+
+    @Test
+    void keepsOnlyTopKAndDropsDeletedPosts() {
+        for (int postId = 1; postId <= 5; postId++) {
+            for (int i = 0; i < postId; i++) {
+                ranker.recordView(postId, 1, Post.PostCategory.WEB);
+            }
+        }
+        ranker.snapshot();
+        assertThat(ranker.getTopPostIds(1, null, 10)).containsExactly(5, 4, 3);
+        assertThat(ranker.getTopPostIds(1, null, 2)).containsExactly(5, 4);
+
+        ranker.onPostChanged(PostChangedEvent.deleted(5));
+        ranker.snapshot();
+
+        assertThat(ranker.getTopPostIds(1, null, 10)).containsExactly(4, 3, 2);
+    }
+
+    @Test
+    void likeOnUntrackedPostLoadsItsBoardFromRepository() {
+        LocalDateTime createdAt = LocalDateTime.now(clock);
+        when(postRepository.findTrendingSeed(7))
+                .thenReturn(Optional.of(new TrendingSeed(7, 2, Post.PostCategory.BACK, createdAt, 0, 0, 0L)));
+        ranker.recordView(8, 2, Post.PostCategory.BACK);
+
+        ranker.onLikeChanged(new LikeChangedEvent(1, Like.TargetType.POST, 7, true));
+        ranker.snapshot();
+
+        assertThat(ranker.getTopPostIds(2, Post.PostCategory.BACK, 10)).containsExactly(7, 8);
+    }
+
+    @Test
+    void prunesPostsWhoseScoreHasDecayedAway() {
+        ranker.recordView(1, 1, Post.PostCategory.WEB);
+        ranker.snapshot();
+        assertThat(ranker.size()).isEqualTo(1);
+
+        // 1 × 2^-5 ≈ 0.03 < 0.05
+        clock.advance(HALF_LIFE.multipliedBy(5));
+        ranker.snapshot();
+
+        assertThat(ranker.size()).isZero();
+        assertThat(ranker.getTopPostIds(1, null, 10)).isEqualTo(List.of());
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        private void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
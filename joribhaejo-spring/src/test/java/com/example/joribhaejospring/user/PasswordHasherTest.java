@@ -0,0 +1,53 @@
+package com.example.joribhaejospring.user;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 스레드·대기열이 모두 차면 기다리지 않고 바로 거절해야 함
+class PasswordHasherTest {
+    private final CountDownLatch release = new CountDownLatch(1);
+    private PasswordHasher passwordHasher;
+
+    @BeforeEach
+    void setUp() {
+        PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+        when(passwordEncoder.encode(anyString())).thenAnswer((invocation) -> {
+            release.await(5, TimeUnit.SECONDS);
+            return "encoded";
+        });
+        passwordHasher = new PasswordHasher(passwordEncoder, 1, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        passwordHasher.shutdown();
+    }
+
+    @Test
+    void rejectsImmediatelyWhenSaturated() throws Exception {
+        CompletableFuture<String> running = passwordHasher.encode("a");
+        CompletableFuture<String> queued = passwordHasher.encode("b");
+
+        assertThatThrownBy(() -> passwordHasher.encode("c"))
+                .isInstanceOf(RejectedExecutionException.class);
+        assertThat(passwordHasher.getRejectedCount()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("encoded");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("encoded");
+    }
+}
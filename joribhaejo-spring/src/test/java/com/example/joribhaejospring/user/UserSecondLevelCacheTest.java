@@ -0,0 +1,120 @@
+package com.example.joribhaejospring.user;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 사용자는 id·username 모두 첫 조회 이후 SQL 없이 2차 캐시에서 읽히고, 엔티티 변경 시 캐시도 갱신되어야 함
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ActiveProfiles("test")
+@TestPropertySource(properties = "test.database=l2cache")
+class UserSecondLevelCacheTest {
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private SessionFactory sessionFactory;
+    private Statistics statistics;
+    private Integer userId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO users (username, email, password) VALUES ('cached', 'cached@test.local', 'password')");
+        userId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM users", Integer.class);
+
+        sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        statistics = sessionFactory.getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM users");
+        sessionFactory.getCache().evictAllRegions();
+    }
+
+    @Test
+    void findByIdHitsEntityCacheAfterFirstLoad() {
+        userRepository.findById(userId).orElseThrow();
+        long statements = statistics.getPrepareStatementCount();
+
+        User user = userRepository.findById(userId).orElseThrow();
+
+        assertThat(user.getUsername()).isEqualTo("cached");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statements);
+        assertThat(statistics.getDomainDataRegionStatistics("users").getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void findByUsernameHitsNaturalIdAndEntityCaches() {
+        userRepository.findByUsername("cached").orElseThrow();
+        long statements = statistics.getPrepareStatementCount();
+
+        User user = userRepository.findByUsername("cached").orElseThrow();
+
+        assertThat(user.getId()).isEqualTo(userId);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statements);
+        assertThat(statistics.getNaturalIdStatistics(User.class.getName()).getCacheHitCount()).isPositive();
+        assertThat(userRepository.findByUsername("missing")).isEmpty();
+    }
+
+    @Test
+    void findByEmailHitsQueryCache() {
+        userRepository.findByEmail("cached@test.local").orElseThrow();
+        long statements = statistics.getPrepareStatementCount();
+
+        User user = userRepository.findByEmail("cached@test.local").orElseThrow();
+
+        assertThat(user.getId()).isEqualTo(userId);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statements);
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void entityUpdateRefreshesCachedUser() {
+        userRepository.findById(userId).orElseThrow();
+
+        transactionTemplate.executeWithoutResult((status) ->
+                userRepository.findById(userId).orElseThrow().setPassword("changed"));
+
+        assertThat(userRepository.findById(userId).orElseThrow().getPassword()).isEqualTo("changed");
+    }
+
+    @Test
+    void unreadCounterUpdateKeepsCachedUser() {
+        userRepository.findById(userId).orElseThrow();
+
+        transactionTemplate.executeWithoutResult((status) -> userRepository.addUnreadMessageCount(userId, 1));
+        long statements = statistics.getPrepareStatementCount();
+        userRepository.findById(userId).orElseThrow();
+
+        // 매핑되지 않은 컬럼만 바꾸는 네이티브 쿼리라 users region이 비워지지 않음
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statements);
+        assertThat(userRepository.findUnreadMessageCount(userId)).isEqualTo(1);
+    }
+}
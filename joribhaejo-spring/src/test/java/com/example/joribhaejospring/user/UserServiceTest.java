@@ -0,0 +1,82 @@
+package com.example.joribhaejospring.user;
+
+import com.example.joribhaejospring.user.dto.LoginRequest;
+import com.example.joribhaejospring.user.dto.LoginResponse;
+import com.example.joribhaejospring.user.dto.SignupRequest;
+import com.example.joribhaejospring.user.token.RefreshTokenService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 해시 풀 스레드는 CPU 작업만, DB 작업은 별도 풀에서 해야 DB 지연이 해시 대기열을 채우지 않음
+class UserServiceTest {
+    private UserRepository userRepository;
+    private RefreshTokenService refreshTokenService;
+    private PasswordHasher passwordHasher;
+    private ExecutorService persistenceExecutor;
+    private UserService userService;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        refreshTokenService = mock(RefreshTokenService.class);
+        PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+        when(passwordEncoder.encode(anyString())).thenReturn("encoded");
+        when(passwordEncoder.matches(anyString(), anyString())).thenReturn(true);
+        passwordHasher = new PasswordHasher(passwordEncoder, 1, 1);
+        persistenceExecutor = Executors.newSingleThreadExecutor((runnable) -> new Thread(runnable, "persistence"));
+        userService = new UserService(userRepository, passwordHasher, refreshTokenService, persistenceExecutor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordHasher.shutdown();
+        persistenceExecutor.shutdownNow();
+    }
+
+    @Test
+    void signupSavesUserOffHashingPool() throws Exception {
+        AtomicReference<String> savedOn = new AtomicReference<>();
+        when(userRepository.findUsernamesByUsernameOrEmail("alice", "alice@example.com")).thenReturn(List.of());
+        when(userRepository.save(any(User.class))).thenAnswer((invocation) -> {
+            savedOn.set(Thread.currentThread().getName());
+            return invocation.getArgument(0);
+        });
+
+        userService.signup(new SignupRequest("alice", "alice@example.com", "password")).get(5, TimeUnit.SECONDS);
+
+        assertThat(savedOn).hasValue("persistence");
+    }
+
+    @Test
+    void loginIssuesTokensOffHashingPool() throws Exception {
+        User user = User.builder().id(1).email("alice@example.com").password("encoded").build();
+        LoginRequest request = mock(LoginRequest.class);
+        when(request.getEmail()).thenReturn("alice@example.com");
+        when(request.getPassword()).thenReturn("password");
+        when(userRepository.findByEmail("alice@example.com")).thenReturn(Optional.of(user));
+        AtomicReference<String> issuedOn = new AtomicReference<>();
+        LoginResponse tokens = new LoginResponse(1, "access", "refresh");
+        when(refreshTokenService.issue(user)).thenAnswer((invocation) -> {
+            issuedOn.set(Thread.currentThread().getName());
+            return tokens;
+        });
+
+        assertThat(userService.login(request).get(5, TimeUnit.SECONDS)).isSameAs(tokens);
+        assertThat(issuedOn).hasValue("persistence");
+    }
+}
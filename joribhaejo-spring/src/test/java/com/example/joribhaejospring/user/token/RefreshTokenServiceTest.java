@@ -0,0 +1,114 @@
+package com.example.joribhaejospring.user.token;
+
+import com.example.joribhaejospring.common.JwtProperties;
+import com.example.joribhaejospring.common.JwtUtil;
+import com.example.joribhaejospring.common.UserDetailsServiceImpl;
+import com.example.joribhaejospring.user.User;
+import com.example.joribhaejospring.user.UserRepository;
+import com.example.joribhaejospring.user.dto.LoginResponse;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 회전된 리프레시 토큰이 다시 쓰이면 family 전체가 폐기되고, 폐기 집합은 테이블에서 다시 적재할 수 있어야 함
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({RefreshTokenService.class, RevokedTokenFamilies.class, UserDetailsServiceImpl.class, JwtUtil.class, JwtProperties.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "test.database=refresh",
+        "jwt.secret=test-secret-key-test-secret-key-test-secret-key-0123456789",
+        "jwt.access-token-expiration-time=3600000",
+        "jwt.refresh-token-expiration-time=1209600000"
+})
+class RefreshTokenServiceTest {
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private RevokedTokenFamilies revokedTokenFamilies;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private JwtProperties jwtProperties;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO users (username, email, password) VALUES ('refresher', 'refresher@test.local', 'password')");
+        user = userRepository.findByEmail("refresher@test.local").orElseThrow();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM refresh_tokens");
+        jdbcTemplate.update("DELETE FROM users");
+        // JDBC로 지운 사용자가 2차 캐시·쿼리 캐시에 남지 않도록
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+    }
+
+    @Test
+    void reusingRotatedTokenRevokesWholeFamily() {
+        LoginResponse login = refreshTokenService.issue(user);
+        LoginResponse rotated = refreshTokenService.refresh(login.getRefreshToken());
+        String familyId = jwtUtil.getFamilyId(jwtUtil.parseClaims(rotated.getAccessToken()));
+
+        assertThat(rotated.getRefreshToken()).isNotEqualTo(login.getRefreshToken());
+        assertThat(revokedTokenFamilies.isRevoked(familyId)).isFalse();
+
+        // 이미 회전된 토큰 재사용 → 새로 받은 토큰까지 모두 사용 불가
+        assertThatThrownBy(() -> refreshTokenService.refresh(login.getRefreshToken()))
+                .isInstanceOf(BadCredentialsException.class);
+        assertThat(revokedTokenFamilies.isRevoked(familyId)).isTrue();
+        assertThatThrownBy(() -> refreshTokenService.refresh(rotated.getRefreshToken()))
+                .isInstanceOf(BadCredentialsException.class);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM refresh_tokens WHERE family_id = ? AND revoked_at IS NULL", Integer.class, familyId))
+                .isZero();
+
+        // 재시작해도 테이블에서 다시 적재
+        RevokedTokenFamilies reloaded = new RevokedTokenFamilies(refreshTokenRepository, jwtProperties);
+        reloaded.load();
+        assertThat(reloaded.isRevoked(familyId)).isTrue();
+    }
+
+    @Test
+    void accessTokenCannotBeUsedAsRefreshToken() {
+        LoginResponse login = refreshTokenService.issue(user);
+
+        assertThatThrownBy(() -> refreshTokenService.refresh(login.getAccessToken()))
+                .isInstanceOf(BadCredentialsException.class);
+        assertThat(jwtUtil.isRefreshToken(jwtUtil.parseClaims(login.getRefreshToken()))).isTrue();
+    }
+}